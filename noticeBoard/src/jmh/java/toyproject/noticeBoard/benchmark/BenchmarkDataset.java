@@ -0,0 +1,196 @@
+package toyproject.noticeBoard.benchmark;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import toyproject.noticeBoard.NoticeBoardApplication;
+import toyproject.noticeBoard.domain.comment.Comment;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크용 애플리케이션과 데이터
+ * 웹 서버 없이 메모리 H2 로 띄우고(jmh 프로필), 데이터는 JPA 를 거치지 않고 JDBC 배치로 넣는다. (100만 건도 수십 초 안에)
+ *
+ * 모양: 게시글마다 댓글 100개 = 댓글 20개 x (댓글 1 + 대댓글 4), 회원은 댓글 10개당 1명
+ * id 는 1 부터 채우고 시퀀스를 그 뒤로 옮기므로, 벤치마크 중에 저장하는 엔티티와 겹치지 않는다.
+ *
+ * 깊은 스레드(insertDeepThread): 댓글 1만개, 8단계 스레드 하나. 단계마다 약 1400개씩이고 부모는 윗 단계에서 돌아가며 고른다.
+ * 시퀀스가 닿지 않는 DEEP_THREAD_ID_START 부터 id 를 쓴다.
+ */
+public class BenchmarkDataset {
+
+    public static final int COMMENTS_PER_POST = 100;
+    public static final int REPLIES_PER_COMMENT = 4;
+    public static final int DEEP_THREAD_COMMENTS = 10_000;
+    public static final int DEEP_THREAD_DEPTH = 8;
+    private static final long DEEP_THREAD_ID_START = 1_000_000_000L;
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String COMMENT_SQL = "insert into comment (comment_id, post_id, parent_id, writer_id, content, is_removed, path, create_data, last_modified_date) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ConfigurableApplicationContext context;
+    private final int comments;
+    private final int posts;
+    private final int members;
+    private final AtomicLong nextDeepThreadId = new AtomicLong(DEEP_THREAD_ID_START);
+
+    private BenchmarkDataset(ConfigurableApplicationContext context, int comments) {
+        this.context = context;
+        this.comments = comments;
+        this.posts = Math.max(1, comments / COMMENTS_PER_POST);
+        this.members = Math.max(100, comments / 10);
+    }
+
+    public static BenchmarkDataset start(int comments) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(NoticeBoardApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("jmh")
+                .run("--spring.datasource.url=jdbc:h2:mem:jmh-" + comments + ";DB_CLOSE_DELAY=-1");
+
+        BenchmarkDataset dataset = new BenchmarkDataset(context, comments);
+        dataset.insert(context.getBean(JdbcTemplate.class));
+        return dataset;
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public void close() {
+        context.close();
+    }
+
+    public int comments() {
+        return comments;
+    }
+
+    public int posts() {
+        return posts;
+    }
+
+    public int members() {
+        return members;
+    }
+
+    public static String username(long memberId) {
+        return "bench" + memberId;
+    }
+
+    public static String refreshToken(long memberId) {
+        return "refresh-token-" + memberId;
+    }
+
+    private void insert(JdbcTemplate jdbc) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> memberRows = new ArrayList<>();
+        for (long id = 1; id <= members; id++) {
+            memberRows.add(new Object[]{id, username(id), "{noop}password", username(id) + "@bench.com", username(id), "USER", refreshToken(id), now, now});
+            flushIfFull(jdbc, "insert into member (member_id, username, password, email, nickname, role, refresh_token, create_data, last_modified_date) " +
+                    "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", memberRows);
+        }
+        flush(jdbc, "insert into member (member_id, username, password, email, nickname, role, refresh_token, create_data, last_modified_date) " +
+                "values (?, ?, ?, ?, ?, ?, ?, ?, ?)", memberRows);
+
+        List<Object[]> postRows = new ArrayList<>();
+        for (long id = 1; id <= posts; id++) {
+            postRows.add(new Object[]{id, id % members + 1, "제목 " + id, "내용", now, now});
+            flushIfFull(jdbc, "insert into post (post_id, writer_id, title, content, create_data, last_modified_date) values (?, ?, ?, ?, ?, ?)", postRows);
+        }
+        flush(jdbc, "insert into post (post_id, writer_id, title, content, create_data, last_modified_date) values (?, ?, ?, ?, ?, ?)", postRows);
+
+        List<Object[]> commentRows = new ArrayList<>();
+        long id = 1;
+        long rootId = 0;
+        String rootPath = null;
+        while (id <= comments) {
+            long postId = (id - 1) / COMMENTS_PER_POST % posts + 1;
+            Timestamp createdAt = Timestamp.valueOf(now.toLocalDateTime().plusNanos(id * 1000));
+            boolean root = (id - 1) % (REPLIES_PER_COMMENT + 1) == 0;
+
+            if (root) {
+                rootId = id;
+                rootPath = Comment.toPathSegment(id);
+                commentRows.add(new Object[]{id, postId, null, id % members + 1, "댓글 " + id, false, rootPath, createdAt, createdAt});
+            } else {
+                commentRows.add(new Object[]{id, postId, rootId, id % members + 1, "대댓글 " + id, false, rootPath + Comment.toPathSegment(id), createdAt, createdAt});
+            }
+            flushIfFull(jdbc, COMMENT_SQL, commentRows);
+            id++;
+        }
+        flush(jdbc, COMMENT_SQL, commentRows);
+
+        // 벤치마크 중에 저장하는 엔티티는 넣어둔 id 뒤부터
+        jdbc.execute("alter sequence member_seq restart with " + (members + 1000));
+        jdbc.execute("alter sequence post_seq restart with " + (posts + 1000));
+        jdbc.execute("alter sequence comment_seq restart with " + (comments + 1000));
+    }
+
+    /**
+     * 게시글에 깊은 스레드(DEEP_THREAD_COMMENTS 개, DEEP_THREAD_DEPTH 단계)를 넣는다.
+     * removed 면 모두 삭제 표시된 채로 넣는다. (압축 대상)
+     */
+    public DeepThread insertDeepThread(long postId, boolean removed) {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long rootId = nextDeepThreadId.getAndAdd(DEEP_THREAD_COMMENTS);
+        long id = rootId;
+
+        List<Object[]> rows = new ArrayList<>();
+        List<Long> parentIds = List.of(rootId);
+        List<String> parentPaths = List.of(Comment.toPathSegment(rootId));
+        rows.add(new Object[]{rootId, postId, null, rootId % members + 1, "깊은 스레드", removed, parentPaths.get(0), now, now});
+
+        int remaining = DEEP_THREAD_COMMENTS - 1;
+        for (int level = 1; level < DEEP_THREAD_DEPTH; level++) {
+            int levelSize = remaining / (DEEP_THREAD_DEPTH - level);
+            List<Long> levelIds = new ArrayList<>(levelSize);
+            List<String> levelPaths = new ArrayList<>(levelSize);
+
+            for (int i = 0; i < levelSize; i++) {
+                id++;
+                long parentId = parentIds.get(i % parentIds.size());
+                String path = parentPaths.get(i % parentPaths.size()) + Comment.toPathSegment(id);
+                Timestamp createdAt = Timestamp.valueOf(now.toLocalDateTime().plusNanos((id - rootId) * 1000));
+                rows.add(new Object[]{id, postId, parentId, id % members + 1, "대댓글 " + id, removed, path, createdAt, createdAt});
+                flushIfFull(jdbc, COMMENT_SQL, rows);
+
+                levelIds.add(id);
+                levelPaths.add(path);
+            }
+            remaining -= levelSize;
+            parentIds = levelIds;
+            parentPaths = levelPaths;
+        }
+        flush(jdbc, COMMENT_SQL, rows);
+
+        return new DeepThread(rootId, id, parentIds.get(0));
+    }
+
+    /**
+     * @param lastId     스레드의 가장 큰 id (rootId 부터 lastId 까지 연속)
+     * @param deepestId  마지막 단계의 댓글 하나
+     */
+    public record DeepThread(long rootId, long lastId, long deepestId) {
+    }
+
+    private void flushIfFull(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        if (rows.size() >= BATCH_SIZE) {
+            flush(jdbc, sql, rows);
+        }
+    }
+
+    private void flush(JdbcTemplate jdbc, String sql, List<Object[]> rows) {
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(sql, rows);
+            rows.clear();
+        }
+    }
+}
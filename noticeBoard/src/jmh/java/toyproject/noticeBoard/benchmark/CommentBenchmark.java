@@ -0,0 +1,208 @@
+package toyproject.noticeBoard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentRow;
+import toyproject.noticeBoard.domain.comment.dto.CommentTreeAssembler;
+import toyproject.noticeBoard.domain.comment.dto.CommentView;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.comment.service.CommentCompactionJob;
+import toyproject.noticeBoard.domain.comment.service.CommentService;
+import toyproject.noticeBoard.domain.post.Post;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 쓰기/읽기 경로
+ * comments 를 키워도 시간이 일정해야 하는 연산(인덱스를 타는 조회, 스레드 하나 크기의 작업)이 늘어나면 어딘가에서 전체를 훑고 있다는 뜻이다.
+ *
+ * ./gradlew jmh -PjmhIncludes=CommentBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int comments;
+
+    private BenchmarkDataset dataset;
+    private CommentService commentService;
+    private CommentRepository commentRepository;
+    private CommentCompactionJob commentCompactionJob;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager em;
+
+    private List<CommentRow> postRows;  // 메모리에서 트리만 만드는 경우
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = BenchmarkDataset.start(comments);
+        commentService = dataset.getBean(CommentService.class);
+        commentRepository = dataset.getBean(CommentRepository.class);
+        commentCompactionJob = dataset.getBean(CommentCompactionJob.class);
+        transactionTemplate = dataset.getBean(TransactionTemplate.class);
+        em = dataset.getBean(EntityManager.class);
+        postRows = commentRepository.findRowsByPostId(1L);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    private long randomPostId() {
+        return ThreadLocalRandom.current().nextLong(dataset.posts()) + 1;
+    }
+
+    private long randomSeededCommentId() {
+        return ThreadLocalRandom.current().nextLong(dataset.comments()) + 1;
+    }
+
+    // 댓글 루트 id (1, 6, 11, ...)
+    private long randomRootId() {
+        long threads = dataset.comments() / (BenchmarkDataset.REPLIES_PER_COMMENT + 1);
+        return ThreadLocalRandom.current().nextLong(threads) * (BenchmarkDataset.REPLIES_PER_COMMENT + 1) + 1;
+    }
+
+    @Benchmark
+    public Long save() {
+        Comment comment = Comment.builder().post(em.getReference(Post.class, randomPostId())).content("벤치마크 댓글").build();
+        commentService.save(comment);
+        return comment.getId();
+    }
+
+    @Benchmark
+    public Comment findById() throws Exception {
+        return commentService.findById(randomSeededCommentId());
+    }
+
+    // 삭제 표시 (이미 삭제된 댓글이면 아무것도 하지 않으므로, 매번 새 댓글을 지운다)
+    @State(Scope.Thread)
+    public static class RemoveTarget {
+        Long id;
+
+        @Setup(Level.Invocation)
+        public void create(CommentBenchmark benchmark) {
+            Comment comment = Comment.builder().post(benchmark.em.getReference(Post.class, benchmark.randomPostId())).content("지울 댓글").build();
+            benchmark.commentService.save(comment);
+            id = comment.getId();
+        }
+    }
+
+    @Benchmark
+    public Long remove(RemoveTarget target) throws Exception {
+        commentService.remove(target.id);
+        return target.id;
+    }
+
+    /**
+     * 스레드 하나가 모두 삭제 표시된 뒤 DB 에서 지우기 (CommentCompactionJob)
+     * 새 스레드의 id 범위만 압축하므로 전체 댓글 수와 상관없이 일정해야 한다.
+     * (삭제 대기 수를 세는 countByIsRemovedTrue 와 전체 id 범위를 훑는 비용은 compact() 한 번 실행에 들고, 여기서는 재지 않음)
+     */
+    @State(Scope.Thread)
+    public static class RemovedThread {
+        long rootId;
+        long lastId;
+
+        @Setup(Level.Invocation)
+        public void create(CommentBenchmark benchmark) throws Exception {
+            Comment root = Comment.builder().post(benchmark.em.getReference(Post.class, benchmark.randomPostId())).content("스레드").build();
+            benchmark.commentService.save(root);
+            rootId = root.getId();
+            lastId = rootId;
+            for (int i = 0; i < BenchmarkDataset.REPLIES_PER_COMMENT; i++) {
+                Comment reply = Comment.builder().post(root.getPost()).parent(root).content("대댓글").build();
+                benchmark.commentService.save(reply);
+                benchmark.commentService.remove(reply.getId());
+                lastId = Math.max(lastId, reply.getId());
+            }
+            benchmark.commentService.remove(root.getId());
+        }
+    }
+
+    @Benchmark
+    public long compactRemovedThread(RemovedThread thread) {
+        return commentCompactionJob.compactBetween(thread.rootId - 1, thread.lastId);
+    }
+
+    /**
+     * 엔티티 그래프로 스레드 전체가 삭제되었는지 확인 (Comment.findRemovableList)
+     * 부모와 childList 를 따라가며 지연 로딩하므로 스레드 크기만큼 쿼리가 나간다.
+     */
+    @Benchmark
+    public int findRemovableList() {
+        long id = randomRootId() + 1;  // 대댓글에서 루트를 찾아 올라감
+        return transactionTemplate.execute(status -> em.find(Comment.class, id).findRemovableList().size());
+    }
+
+    @Benchmark
+    public List<CommentView> findTreeByPostId() {
+        return commentService.findTreeByPostId(randomPostId());
+    }
+
+    @Benchmark
+    public List<CommentView> findThread() throws Exception {
+        return commentService.findThread(randomRootId());
+    }
+
+    // == 깊은 스레드 (댓글 1만개, 8단계) == //
+
+    @State(Scope.Benchmark)
+    public static class DeepThread {
+        BenchmarkDataset.DeepThread thread;
+
+        @Setup(Level.Trial)
+        public void create(CommentBenchmark benchmark) {
+            thread = benchmark.dataset.insertDeepThread(1L, false);
+        }
+    }
+
+    // 경로 접두사 범위 조회 1번으로 스레드 전체를 읽고 트리를 만든다
+    @Benchmark
+    public List<CommentView> findDeepThread(DeepThread deep) throws Exception {
+        return commentService.findThread(deep.thread.rootId());
+    }
+
+    // 가장 깊은 댓글에서 루트까지 올라가 childList 로 1만개를 모두 따라간다
+    @Benchmark
+    public int findRemovableListOfDeepThread(DeepThread deep) {
+        return transactionTemplate.execute(status -> em.find(Comment.class, deep.thread.deepestId()).findRemovableList().size());
+    }
+
+    // 모두 삭제 표시된 깊은 스레드 하나를 압축 (경로 확인 1번, 연결 끊기, DELETE)
+    @State(Scope.Thread)
+    public static class RemovedDeepThread {
+        BenchmarkDataset.DeepThread thread;
+
+        @Setup(Level.Invocation)
+        public void create(CommentBenchmark benchmark) {
+            thread = benchmark.dataset.insertDeepThread(benchmark.randomPostId(), true);
+        }
+    }
+
+    @Benchmark
+    public long compactDeepThread(RemovedDeepThread deep) {
+        return commentCompactionJob.compactBetween(deep.thread.rootId() - 1, deep.thread.lastId());
+    }
+
+    // 조회 없이 게시글 하나(100개)의 행으로 트리만 만들기
+    @Benchmark
+    public List<CommentView> assembleTree() {
+        return CommentTreeAssembler.assemble(postRows);
+    }
+}
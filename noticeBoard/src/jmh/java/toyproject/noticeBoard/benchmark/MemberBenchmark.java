@@ -0,0 +1,61 @@
+package toyproject.noticeBoard.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인, 토큰 재발급 때 회원 조회
+ * username 은 unique 인덱스가 있고 refresh_token 은 인덱스가 없으므로, 회원 수가 늘면 재발급 조회만 느려진다.
+ *
+ * ./gradlew jmh -PjmhIncludes=MemberBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MemberBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int comments;  // 회원 수는 comments / 10 (CommentBenchmark 와 같은 데이터)
+
+    private BenchmarkDataset dataset;
+    private MemberRepository memberRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = BenchmarkDataset.start(comments);
+        memberRepository = dataset.getBean(MemberRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    private long randomMemberId() {
+        return ThreadLocalRandom.current().nextLong(dataset.members()) + 1;
+    }
+
+    @Benchmark
+    public Optional<Member> findByUsername() {
+        return memberRepository.findByUsername(BenchmarkDataset.username(randomMemberId()));
+    }
+
+    @Benchmark
+    public Optional<Member> findByRefreshToken() {
+        return memberRepository.findByRefreshToken(BenchmarkDataset.refreshToken(randomMemberId()));
+    }
+}
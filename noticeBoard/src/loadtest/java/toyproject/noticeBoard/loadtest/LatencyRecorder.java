@@ -0,0 +1,51 @@
+package toyproject.noticeBoard.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 응답 시간 분포 (HdrHistogram, 마이크로초, 유효숫자 3자리)
+ * 성공한 요청의 응답 시간만 분포에 넣고, 실패는 개수만 센다.
+ */
+public class LatencyRecorder {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    public void succeeded(long elapsedNanos) {
+        histogram.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_MICROS));
+    }
+
+    public void failed(long elapsedNanos) {
+        errors.increment();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    public LoadTestReport.Latency summarize() {
+        return new LoadTestReport.Latency(
+                histogram.getTotalCount(),
+                round(histogram.getMean() / 1000.0),
+                toMillis(histogram.getValueAtPercentile(50)),
+                toMillis(histogram.getValueAtPercentile(90)),
+                toMillis(histogram.getValueAtPercentile(99)),
+                toMillis(histogram.getValueAtPercentile(99.9)),
+                toMillis(histogram.getMaxValue())
+        );
+    }
+
+    private static double toMillis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double millis) {
+        return Math.round(millis * 1000) / 1000.0;
+    }
+}
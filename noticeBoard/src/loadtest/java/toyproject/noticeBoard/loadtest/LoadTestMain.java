@@ -0,0 +1,103 @@
+package toyproject.noticeBoard.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import toyproject.noticeBoard.NoticeBoardApplication;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 (./gradlew loadTest)
+ * 1. 메모리 H2 로 애플리케이션을 임의 포트에 띄우고 데이터를 넣는다. (loadtest 프로필)
+ * 2. 공유 세션으로 쓸 회원들을 /login 으로 로그인시켜 둔다.
+ * 3. 시나리오별 도착 비율대로 워밍업 + 측정 시간 동안 부하를 준다.
+ * 4. 시나리오별 처리량, 응답 시간 백분위수를 report 경로에 JSON 으로 남긴다.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        Map<String, Scenario> scenarios = Scenarios.all();
+        for (String name : options.rates().keySet()) {
+            if (!scenarios.containsKey(name)) {
+                throw new IllegalArgumentException("없는 시나리오입니다: " + name + " (" + scenarios.keySet() + ")");
+            }
+        }
+
+        ConfigurableApplicationContext application = new SpringApplicationBuilder(NoticeBoardApplication.class)
+                .profiles("loadtest")
+                // 측정 중에 공유 세션의 토큰이 만료되지 않도록 (AccessToken 은 --token-refresh 주기로 재발급)
+                .run("--jwt.access.expiration=3600", "--jwt.refresh.expiration=86400");
+        int exitCode = 0;
+        try {
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+            SeedData seed = new LoadTestSeeder(application).seed(options);
+
+            HttpClient http = ScenarioContext.newHttpClient();
+            List<LoadTestSession> sessions = login(http, baseUrl, seed, options);
+            ScenarioContext context = new ScenarioContext(http, baseUrl, seed, sessions, options.tokenRefreshSeconds());
+
+            List<Scenario> selected = new ArrayList<>();
+            List<ScenarioStats> stats = new ArrayList<>();
+            options.rates().forEach((name, rate) -> {
+                selected.add(scenarios.get(name));
+                stats.add(new ScenarioStats(name, rate));
+            });
+
+            String startedAt = LocalDateTime.now().toString();
+            System.out.printf("부하 테스트를 시작합니다. %s, 워밍업 %d초, 측정 %d초%n", baseUrl, options.warmupSeconds(), options.durationSeconds());
+            new OpenModelRunner(options, context).run(selected, stats);
+
+            LoadTestReport report = new LoadTestReport(startedAt, options.durationSeconds(), options.warmupSeconds(), options.poisson(),
+                    stats.stream().map(scenario -> scenario.summarize(options.durationSeconds())).toList());
+            write(report, options);
+            print(report);
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            application.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static List<LoadTestSession> login(HttpClient http, String baseUrl, SeedData seed, LoadTestOptions options) throws Exception {
+        ScenarioStats setup = new ScenarioStats("setup", 0);
+        ScenarioContext context = new ScenarioContext(http, baseUrl, seed, List.of(), options.tokenRefreshSeconds());
+
+        List<LoadTestSession> sessions = new ArrayList<>();
+        for (String username : seed.sessionUsernames()) {
+            LoadTestSession session = new LoadTestSession(username);
+            context.login(setup, session);
+            sessions.add(session);
+        }
+        return sessions;
+    }
+
+    private static void write(LoadTestReport report, LoadTestOptions options) throws Exception {
+        if (options.report().getParent() != null) {
+            Files.createDirectories(options.report().getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.report().toFile(), report);
+        System.out.println("결과: " + options.report().toAbsolutePath());
+    }
+
+    private static void print(LoadTestReport report) {
+        System.out.printf("%-18s %10s %10s %8s %8s %10s %9s %9s %9s %9s%n",
+                "scenario", "target/s", "done/s", "failed", "dropped", "mean", "p50", "p99", "p99.9", "max");
+        for (LoadTestReport.Scenario scenario : report.scenarios()) {
+            LoadTestReport.Latency latency = scenario.latencyMs();
+            System.out.printf("%-18s %10.1f %10.2f %8d %8d %10.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario.name(), scenario.targetRatePerSecond(), scenario.throughputPerSecond(), scenario.failed(), scenario.dropped(),
+                    latency.mean(), latency.p50(), latency.p99(), latency.p999(), latency.max());
+        }
+    }
+}
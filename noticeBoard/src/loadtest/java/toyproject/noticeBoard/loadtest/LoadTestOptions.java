@@ -0,0 +1,57 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션 (--이름=값)
+ * 예) ./gradlew loadTest -PloadTestArgs="--duration=120 --rates=browse-comments=200,login-refresh=5"
+ */
+public record LoadTestOptions(
+        long durationSeconds,
+        long warmupSeconds,
+        Map<String, Double> rates,  // 시나리오별 초당 도착 수 (도착은 응답을 기다리지 않음)
+        boolean poisson,  // true 면 도착 간격이 지수분포, false 면 일정
+        int maxInFlight,  // 동시에 처리 중인 시나리오가 이보다 많으면 도착을 버림 (dropped)
+        int members,
+        int posts,
+        int commentsPerPost,
+        long tokenRefreshSeconds,  // 공유 세션의 AccessToken 을 이 시간마다 리프레시 토큰으로 재발급
+        Path report
+) {
+
+    private static final String DEFAULT_RATES = "browse-comments=50,member-stats=20,signup-check=20,login-refresh=2";
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadTestOptions(
+                Long.parseLong(values.getOrDefault("duration", "60")),
+                Long.parseLong(values.getOrDefault("warmup", "10")),
+                parseRates(values.getOrDefault("rates", DEFAULT_RATES)),
+                Boolean.parseBoolean(values.getOrDefault("poisson", "true")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "500")),
+                Integer.parseInt(values.getOrDefault("members", "200")),
+                Integer.parseInt(values.getOrDefault("posts", "50")),
+                Integer.parseInt(values.getOrDefault("comments-per-post", "50")),
+                Long.parseLong(values.getOrDefault("token-refresh", "60")),
+                Path.of(values.getOrDefault("report", "build/loadtest/report.json"))
+        );
+    }
+
+    private static Map<String, Double> parseRates(String rates) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (String rate : rates.split(",")) {
+            String[] nameAndRate = rate.split("=");
+            result.put(nameAndRate[0].trim(), Double.parseDouble(nameAndRate[1].trim()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,35 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 결과 (JSON 으로 저장해서 빌드끼리 비교한다)
+ * 시간은 모두 ms
+ */
+public record LoadTestReport(
+        String startedAt,
+        long durationSeconds,
+        long warmupSeconds,
+        boolean poisson,
+        List<Scenario> scenarios
+) {
+
+    public record Scenario(
+            String name,
+            double targetRatePerSecond,
+            long arrivals,  // 측정 구간에 도착한 수
+            long completed,
+            long failed,
+            long dropped,  // max-in-flight 를 넘어서 시작하지 못한 수
+            double throughputPerSecond,  // 초당 성공한 시나리오 수
+            Latency latencyMs,  // 도착하기로 한 시간부터 끝날 때까지
+            List<Step> steps  // 요청별 응답 시간
+    ) {
+    }
+
+    public record Step(String name, long errors, Latency latencyMs) {
+    }
+
+    public record Latency(long count, double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+}
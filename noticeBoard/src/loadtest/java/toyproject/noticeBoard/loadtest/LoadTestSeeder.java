@@ -0,0 +1,80 @@
+package toyproject.noticeBoard.loadtest;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.post.Post;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메모리 DB 에 회원, 게시글, 댓글(일부는 대댓글 포함)을 넣는다.
+ * 회원가입 API 가 없으므로 HTTP 를 거치지 않고 같은 프로세스에서 직접 저장한다.
+ */
+public class LoadTestSeeder {
+
+    private static final String PASSWORD = "loadtest1234";
+    private static final int REPLIED_COMMENTS_PER_POST = 10;
+    private static final int REPLIES_PER_COMMENT = 5;
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public LoadTestSeeder(ApplicationContext context) {
+        this.em = context.getBean(EntityManager.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+    }
+
+    public SeedData seed(LoadTestOptions options) {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);  // 모두 같은 비밀번호 (bcrypt 는 느리므로 한 번만)
+
+        List<String> usernames = new ArrayList<>();
+        List<Long> memberIds = new ArrayList<>();
+        List<Long> postIds = new ArrayList<>();
+        List<SeedData.Thread> threads = new ArrayList<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < options.members(); i++) {
+                String username = "load" + i;
+                Member member = Member.builder().username(username).password(encodedPassword)
+                        .email(username + "@loadtest.com").nickname(username).role(RoleType.USER).build();
+                em.persist(member);
+                members.add(member);
+                usernames.add(username);
+                memberIds.add(member.getId());
+            }
+
+            for (int i = 0; i < options.posts(); i++) {
+                Post post = Post.builder().writer(members.get(i % members.size())).title("부하 테스트 " + i).content("내용").build();
+                em.persist(post);
+                postIds.add(post.getId());
+
+                for (int j = 0; j < options.commentsPerPost(); j++) {
+                    Comment comment = Comment.builder().writer(members.get((i + j) % members.size())).post(post).content("댓글 " + j).build();
+                    em.persist(comment);
+
+                    if (j < REPLIED_COMMENTS_PER_POST) {
+                        for (int k = 0; k < REPLIES_PER_COMMENT; k++) {
+                            em.persist(Comment.builder().writer(members.get((i + j + k + 1) % members.size()))
+                                    .post(post).parent(comment).content("대댓글 " + k).build());
+                        }
+                        threads.add(new SeedData.Thread(post.getId(), comment.getId()));
+                    }
+                }
+                em.flush();
+                em.clear();
+                members.replaceAll(member -> em.getReference(Member.class, member.getId()));
+            }
+        });
+
+        return new SeedData(usernames, PASSWORD, memberIds, postIds, threads);
+    }
+}
@@ -0,0 +1,44 @@
+package toyproject.noticeBoard.loadtest;
+
+/**
+ * 로그인한 회원 하나의 토큰
+ * 헤더로 받은 토큰을 그대로 저장하고, 보낼 때 Bearer 를 붙인다.
+ */
+public class LoadTestSession {
+
+    private final String username;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+    private volatile long issuedAtNanos;
+
+    public LoadTestSession(String username) {
+        this.username = username;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String bearerAccessToken() {
+        return "Bearer " + accessToken;
+    }
+
+    public String bearerRefreshToken() {
+        return "Bearer " + refreshToken;
+    }
+
+    public void loggedIn(String accessToken, String refreshToken) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.issuedAtNanos = System.nanoTime();
+    }
+
+    public void refreshed(String accessToken) {
+        this.accessToken = accessToken;
+        this.issuedAtNanos = System.nanoTime();
+    }
+
+    public long ageNanos() {
+        return System.nanoTime() - issuedAtNanos;
+    }
+}
@@ -0,0 +1,96 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 열린 모델(open model) 부하
+ * 시나리오마다 정해진 비율로 도착시키고, 앞의 시나리오가 끝나기를 기다리지 않는다. (서버가 느려져도 부하가 줄지 않음)
+ * 동시에 처리 중인 시나리오가 max-in-flight 를 넘으면 도착을 버리고 dropped 로 센다.
+ * 워밍업 구간에 도착한 시나리오는 버리는 ScenarioStats 에 기록한다.
+ */
+public class OpenModelRunner {
+
+    private final LoadTestOptions options;
+    private final ScenarioContext context;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ExecutorService workers = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-worker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public OpenModelRunner(LoadTestOptions options, ScenarioContext context) {
+        this.options = options;
+        this.context = context;
+    }
+
+    public void run(List<Scenario> scenarios, List<ScenarioStats> stats) throws InterruptedException {
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+
+        List<Thread> dispatchers = new ArrayList<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            Scenario scenario = scenarios.get(i);
+            ScenarioStats scenarioStats = stats.get(i);
+            Thread dispatcher = new Thread(() -> dispatch(scenario, scenarioStats, startNanos, measureFromNanos, endNanos),
+                    "loadtest-arrivals-" + scenario.name());
+            dispatcher.start();
+            dispatchers.add(dispatcher);
+        }
+        for (Thread dispatcher : dispatchers) {
+            dispatcher.join();
+        }
+
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void dispatch(Scenario scenario, ScenarioStats stats, long startNanos, long measureFromNanos, long endNanos) {
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / stats.targetRate();
+        double nextArrival = startNanos;
+        ScenarioStats warmupStats = new ScenarioStats(stats.name(), stats.targetRate());
+
+        while (nextArrival < endNanos) {
+            long intendedStart = (long) nextArrival;
+            long waitNanos = intendedStart - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            ScenarioStats target = intendedStart >= measureFromNanos ? stats : warmupStats;
+            target.arrived();
+
+            if (inFlight.incrementAndGet() > options.maxInFlight()) {
+                inFlight.decrementAndGet();
+                target.dropped();
+            } else {
+                workers.execute(() -> execute(scenario, target, intendedStart));
+            }
+
+            nextArrival += options.poisson()
+                    ? -Math.log(1 - ThreadLocalRandom.current().nextDouble()) * intervalNanos  // 지수분포 간격
+                    : intervalNanos;
+        }
+    }
+
+    private void execute(Scenario scenario, ScenarioStats stats, long intendedStart) {
+        try {
+            scenario.run(context, stats);
+            stats.completed(System.nanoTime() - intendedStart);
+        } catch (Exception e) {
+            stats.failed(System.nanoTime() - intendedStart);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+}
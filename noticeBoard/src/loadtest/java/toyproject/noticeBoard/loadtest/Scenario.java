@@ -0,0 +1,17 @@
+package toyproject.noticeBoard.loadtest;
+
+/**
+ * 도착 하나마다 한 번 실행되는 사용자 행동
+ * 요청은 ScenarioContext 로 보내야 요청별 응답 시간이 기록된다.
+ */
+public record Scenario(String name, Body body) {
+
+    @FunctionalInterface
+    public interface Body {
+        void run(ScenarioContext context, ScenarioStats stats) throws Exception;
+    }
+
+    public void run(ScenarioContext context, ScenarioStats stats) throws Exception {
+        body.run(context, stats);
+    }
+}
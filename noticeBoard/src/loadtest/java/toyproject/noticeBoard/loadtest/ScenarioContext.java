@@ -0,0 +1,115 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오가 요청을 보낼 때 쓰는 도구
+ * 요청(step)마다 응답 시간을 재고, 2xx 가 아니면 StepFailedException 으로 시나리오를 실패시킨다.
+ */
+public class ScenarioContext {
+
+    private static final String ACCESS_HEADER = "Authorization";
+    private static final String REFRESH_HEADER = "Authorization-refresh";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final SeedData seed;
+    private final List<LoadTestSession> sharedSessions;
+    private final long tokenRefreshNanos;
+
+    public ScenarioContext(HttpClient http, String baseUrl, SeedData seed, List<LoadTestSession> sharedSessions, long tokenRefreshSeconds) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.seed = seed;
+        this.sharedSessions = sharedSessions;
+        this.tokenRefreshNanos = TimeUnit.SECONDS.toNanos(tokenRefreshSeconds);
+    }
+
+    public SeedData seed() {
+        return seed;
+    }
+
+    // 시작할 때 로그인해 둔 세션 중 하나 (오래된 AccessToken 은 재발급)
+    public LoadTestSession sharedSession(ScenarioStats scenario) throws Exception {
+        LoadTestSession session = sharedSessions.get(ThreadLocalRandom.current().nextInt(sharedSessions.size()));
+        if (session.ageNanos() > tokenRefreshNanos) {
+            synchronized (session) {
+                if (session.ageNanos() > tokenRefreshNanos) {
+                    refresh(scenario, session);
+                }
+            }
+        }
+        return session;
+    }
+
+    public void login(ScenarioStats scenario, LoadTestSession session) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + session.username() + "\",\"password\":\"" + seed.password() + "\"}"));
+
+        HttpResponse<String> response = send(scenario, "POST /login", request);
+        String accessToken = response.headers().firstValue(ACCESS_HEADER)
+                .orElseThrow(() -> new StepFailedException("POST /login", "AccessToken 이 없습니다."));
+        String refreshToken = response.headers().firstValue(REFRESH_HEADER)
+                .orElseThrow(() -> new StepFailedException("POST /login", "RefreshToken 이 없습니다."));
+        session.loggedIn(accessToken, refreshToken);
+    }
+
+    // 리프레시 토큰을 보내면 필터가 AccessToken 만 다시 발급하고 바로 응답한다
+    public void refresh(ScenarioStats scenario, LoadTestSession session) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/"))
+                .header(REFRESH_HEADER, session.bearerRefreshToken())
+                .GET();
+
+        HttpResponse<String> response = send(scenario, "refresh", request);
+        session.refreshed(response.headers().firstValue(ACCESS_HEADER)
+                .orElseThrow(() -> new StepFailedException("refresh", "재발급된 AccessToken 이 없습니다.")));
+    }
+
+    public HttpResponse<String> get(ScenarioStats scenario, String step, String path, LoadTestSession session) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri(path)).GET();
+        if (session != null) {
+            request.header(ACCESS_HEADER, session.bearerAccessToken());
+        }
+        return send(scenario, step, request);
+    }
+
+    private HttpResponse<String> send(ScenarioStats scenario, String step, HttpRequest.Builder request) throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+        } catch (Exception e) {
+            scenario.step(step).failed(System.nanoTime() - start);
+            throw e;
+        }
+
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() / 100 != 2) {
+            scenario.step(step).failed(elapsed);
+            throw new StepFailedException(step, "HTTP " + response.statusCode());
+        }
+        scenario.step(step).succeeded(elapsed);
+        return response;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+}
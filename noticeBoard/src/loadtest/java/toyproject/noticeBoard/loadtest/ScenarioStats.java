@@ -0,0 +1,72 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오 하나의 결과
+ * 시나리오 응답 시간은 실제로 시작한 시간이 아니라 도착하기로 한 시간부터 잰다.
+ * 서버가 밀려서 시작이 늦어진 시간도 응답 시간에 들어가야 하기 때문 (coordinated omission 보정)
+ */
+public class ScenarioStats {
+
+    private final String name;
+    private final double targetRate;
+    private final LatencyRecorder latency = new LatencyRecorder();
+    private final Map<String, LatencyRecorder> steps = new ConcurrentHashMap<>();
+    private final LongAdder arrivals = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    public ScenarioStats(String name, double targetRate) {
+        this.name = name;
+        this.targetRate = targetRate;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public double targetRate() {
+        return targetRate;
+    }
+
+    public LatencyRecorder step(String step) {
+        return steps.computeIfAbsent(step, key -> new LatencyRecorder());
+    }
+
+    public void arrived() {
+        arrivals.increment();
+    }
+
+    public void dropped() {
+        dropped.increment();
+    }
+
+    public void completed(long sinceIntendedStartNanos) {
+        latency.succeeded(sinceIntendedStartNanos);
+    }
+
+    public void failed(long sinceIntendedStartNanos) {
+        latency.failed(sinceIntendedStartNanos);
+    }
+
+    public LoadTestReport.Scenario summarize(double measuredSeconds) {
+        LoadTestReport.Latency summary = latency.summarize();
+        return new LoadTestReport.Scenario(
+                name,
+                targetRate,
+                arrivals.sum(),
+                summary.count(),
+                latency.errors(),
+                dropped.sum(),
+                Math.round(summary.count() / measuredSeconds * 100) / 100.0,
+                summary,
+                steps.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey())  // 빌드끼리 비교하기 쉽도록 이름 순서
+                        .map(entry -> new LoadTestReport.Step(entry.getKey(), entry.getValue().errors(), entry.getValue().summarize()))
+                        .toList()
+        );
+    }
+}
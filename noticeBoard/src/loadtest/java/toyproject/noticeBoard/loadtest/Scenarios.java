@@ -0,0 +1,61 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 테스트 시나리오 목록 (--rates 의 이름)
+ */
+public final class Scenarios {
+
+    private Scenarios() {
+    }
+
+    public static Map<String, Scenario> all() {
+        return List.of(browseComments(), memberStats(), signupCheck(), loginRefresh()).stream()
+                .collect(Collectors.toMap(Scenario::name, Function.identity()));
+    }
+
+    // 로그인한 회원이 게시글의 댓글 첫 페이지를 보고, 대댓글을 펼친다
+    private static Scenario browseComments() {
+        return new Scenario("browse-comments", (context, stats) -> {
+            LoadTestSession session = context.sharedSession(stats);
+            SeedData seed = context.seed();
+
+            context.get(stats, "GET /posts/{postId}/comments", "/posts/" + seed.randomPostId() + "/comments?size=20", session);
+            if (!seed.threads().isEmpty()) {
+                SeedData.Thread thread = seed.randomThread();
+                context.get(stats, "GET /posts/{postId}/comments/{commentId}/replies",
+                        "/posts/" + thread.postId() + "/comments/" + thread.rootCommentId() + "/replies?size=20", session);
+            }
+        });
+    }
+
+    // 프로필의 활동 통계
+    private static Scenario memberStats() {
+        return new Scenario("member-stats", (context, stats) -> context.get(stats, "GET /members/{memberId}/stats",
+                "/members/" + context.seed().randomMemberId() + "/stats", context.sharedSession(stats)));
+    }
+
+    // 회원가입 화면에서 입력할 때마다 사용 가능 여부 확인 (로그인 없음, 절반은 이미 있는 아이디)
+    private static Scenario signupCheck() {
+        return new Scenario("signup-check", (context, stats) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String username = random.nextBoolean() ? context.seed().randomUsername() : "new" + random.nextInt(1_000_000);
+            context.get(stats, "GET /singUp/availability", "/singUp/availability?username=" + username + "&nickname=nick" + random.nextInt(1_000_000), null);
+        });
+    }
+
+    // 로그인 -> 리프레시 토큰으로 AccessToken 재발급 -> 새 토큰으로 인증이 필요한 요청
+    private static Scenario loginRefresh() {
+        return new Scenario("login-refresh", (context, stats) -> {
+            LoadTestSession session = new LoadTestSession(context.seed().randomLoginUsername());
+            context.login(stats, session);
+            context.refresh(stats, session);
+            context.get(stats, "GET /members/{memberId}/stats", "/members/" + context.seed().randomMemberId() + "/stats", session);
+        });
+    }
+}
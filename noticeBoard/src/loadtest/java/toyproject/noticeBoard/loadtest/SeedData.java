@@ -0,0 +1,43 @@
+package toyproject.noticeBoard.loadtest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 부하 테스트 전에 넣어둔 데이터
+ */
+public record SeedData(List<String> usernames, String password, List<Long> memberIds, List<Long> postIds, List<Thread> threads) {
+
+    public record Thread(Long postId, Long rootCommentId) {  // 대댓글이 달린 댓글
+    }
+
+    /**
+     * 로그인하면 리프레시 토큰이 바뀌므로, 시작할 때 로그인해 두는 회원(짝수 번째)과
+     * login-refresh 시나리오가 로그인하는 회원(홀수 번째)을 나눈다.
+     */
+    public List<String> sessionUsernames() {
+        return IntStream.range(0, usernames.size()).filter(i -> i % 2 == 0).mapToObj(usernames::get).toList();
+    }
+
+    public String randomLoginUsername() {
+        int odd = ThreadLocalRandom.current().nextInt(usernames.size() / 2) * 2 + 1;
+        return usernames.get(odd);
+    }
+
+    public String randomUsername() {
+        return usernames.get(ThreadLocalRandom.current().nextInt(usernames.size()));
+    }
+
+    public Long randomMemberId() {
+        return memberIds.get(ThreadLocalRandom.current().nextInt(memberIds.size()));
+    }
+
+    public Long randomPostId() {
+        return postIds.get(ThreadLocalRandom.current().nextInt(postIds.size()));
+    }
+
+    public Thread randomThread() {
+        return threads.get(ThreadLocalRandom.current().nextInt(threads.size()));
+    }
+}
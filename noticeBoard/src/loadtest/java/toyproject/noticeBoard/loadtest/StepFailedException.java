@@ -0,0 +1,8 @@
+package toyproject.noticeBoard.loadtest;
+
+public class StepFailedException extends RuntimeException {
+
+    public StepFailedException(String step, String reason) {
+        super(step + ": " + reason);
+    }
+}
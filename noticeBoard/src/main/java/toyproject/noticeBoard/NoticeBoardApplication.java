@@ -2,14 +2,21 @@ package toyproject.noticeBoard;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableJpaAuditing
+@EnableAsync
+@EnableScheduling
 @SpringBootApplication
 public class NoticeBoardApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(NoticeBoardApplication.class, args);
+		SpringApplication application = new SpringApplication(NoticeBoardApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(10000));  // 시작 단계별 시간 (StartupTimingReporter, /actuator/startup)
+		application.run(args);
 	}
 
 }
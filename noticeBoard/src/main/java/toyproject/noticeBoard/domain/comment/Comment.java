@@ -4,6 +4,8 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import toyproject.noticeBoard.domain.BaseTimeEntity;
 import toyproject.noticeBoard.domain.member.Member;
 import toyproject.noticeBoard.domain.post.Post;
@@ -11,15 +13,23 @@ import toyproject.noticeBoard.domain.post.Post;
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
-@Table(name = "COMMENT")
+@Table(name = "COMMENT", indexes = {
+        // 게시글별 댓글/대댓글 커서 페이지 조회
+        @Index(name = "idx_comment_post_parent_created", columnList = "post_id, parent_id, createData"),
+        // 스레드/서브트리를 경로 접두사로 범위 조회, 삭제
+        @Index(name = "idx_comment_path", columnList = "path")
+})
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "comment")  // 2차 캐시 (ehcache.xml)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class Comment extends BaseTimeEntity {
 
-    @Id @GeneratedValue
+    // 전역 hibernate_sequence 를 한 건마다 부르지 않도록 pooled-lo 시퀀스로 id 를 미리 할당한다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comment_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
@@ -41,7 +51,16 @@ public class Comment extends BaseTimeEntity {
 
     private boolean isRemoved = false;
 
+    /**
+     * 루트 댓글부터 자신까지의 id 를 고정 길이(PATH_SEGMENT_LENGTH)로 이어붙인 경로
+     * 경로 순으로 정렬하면 스레드를 화면 순서(부모 다음에 자식)로 볼 수 있고, 서브트리는 같은 접두사를 가진다.
+     * id 가 필요하므로 INSERT 직전에 CommentPathListener 가 정해준다.
+     */
+    @Column(length = 255)
+    private String path;
+
     // == 부모 댓글을 삭제해도 자식 댓글은 남아있음 == //
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "comment.childList")
     @OneToMany(mappedBy = "parent")
     private List<Comment> childList = new ArrayList<>();
 
@@ -65,6 +84,41 @@ public class Comment extends BaseTimeEntity {
         childList.add(child);
     }
 
+    // == 경로 == //
+    public static final int PATH_SEGMENT_LENGTH = 8;  // 36진수 8자리
+    public static final int MAX_DEPTH = 255 / PATH_SEGMENT_LENGTH;
+
+    // 경로는 flush 도중(INSERT 직전)에 정해지므로, 그때 부모 프록시를 초기화하지 않도록 persist 시점에 미리 불러둔다
+    @PrePersist
+    private void loadParentPath() {
+        if (parent != null) {
+            parent.getPath();
+        }
+    }
+
+    public String assignPath(Long id) {
+        String parentPath = parent == null ? "" : parent.getPath();
+        if (parentPath.length() / PATH_SEGMENT_LENGTH >= MAX_DEPTH) {
+            throw new IllegalStateException("대댓글은 " + MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
+
+        this.path = parentPath + toPathSegment(id);
+        return path;
+    }
+
+    public static String toPathSegment(Long id) {
+        String segment = Long.toString(id, Character.MAX_RADIX);
+        return "0".repeat(PATH_SEGMENT_LENGTH - segment.length()) + segment;
+    }
+
+    public String getRootPath() {
+        return path.substring(0, PATH_SEGMENT_LENGTH);
+    }
+
+    public int getDepth() {
+        return path.length() / PATH_SEGMENT_LENGTH - 1;  // 루트 댓글은 0
+    }
+
     // == 수정 == //
     public void updateContent(String content) {
         this.content = content;
@@ -85,34 +139,33 @@ public class Comment extends BaseTimeEntity {
     }
 
     // == 비즈니스 로직 == //
+
+    /**
+     * DB 에서 지워도 되는 댓글 목록 (자식 -> 부모 순서)
+     * 삭제는 루트 댓글의 스레드 단위로 한다. 스레드의 모든 댓글이 삭제 표시되었으면 스레드 전체, 아니면 없음.
+     * (2단계일 때: 댓글이면 모든 대댓글이 삭제된 경우, 대댓글이면 부모 댓글과 다른 대댓글이 모두 삭제된 경우)
+     *
+     * 연관관계를 따라가므로 스레드가 크면 느리다. CommentCompactionJob 에서는 경로(path)로 같은 판단을 쿼리로 한다.
+     */
     public List<Comment> findRemovableList() {
-        List<Comment> result = new ArrayList<>();
-
-        Optional.ofNullable(this.parent).ifPresentOrElse(
-                parentComment -> {  // 대댓글인 경우 (부모가 존재하는 경우)
-                    if (parentComment.isRemoved() && parentComment.isAllChildRemoved()) {
-                        result.addAll(parentComment.getChildList());
-                        result.add(parentComment);
-                    }
-                },
-
-                () -> {  // 댓글이 경우
-                    if (isAllChildRemoved()) {
-                        result.add(this);
-                        result.addAll(this.getChildList());
-                    }
-                }
-        );
-
-        return result;
+        List<Comment> thread = new ArrayList<>();
+        findRoot().collectSubtree(thread);
+
+        boolean isAllRemoved = thread.stream().allMatch(Comment::isRemoved);
+        return isAllRemoved ? thread : new ArrayList<>();
+    }
+
+    private Comment findRoot() {
+        Comment root = this;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        return root;
     }
 
-    // 모든 자식 댓글이 삭제되었는지 판단
-    private boolean isAllChildRemoved() {
-        return getChildList().stream()
-                .map(Comment::isRemoved)  // 지워졌는지 여부로 바꾼다.
-                .filter(isRemove -> !isRemove)  // 지워졌으면 True, 안 지워졌으면 false. 따라서 filter 에 걸러지는 것은 false 인 녀석들이고, 있다면 false 를 없다면 orElse 를 통해 true 를 반환
-                .findAny()  // 지워지지 않은게 하나라도 있다면 false 를 반환
-                .orElse(true);  // 모두 지워졌다면 true 를 반환
+    // 자식을 먼저 담는다 (FK 때문에 자식부터 지워야 함)
+    private void collectSubtree(List<Comment> result) {
+        getChildList().forEach(child -> child.collectSubtree(result));
+        result.add(this);
     }
 }
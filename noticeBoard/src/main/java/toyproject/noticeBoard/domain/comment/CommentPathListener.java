@@ -0,0 +1,22 @@
+package toyproject.noticeBoard.domain.comment;
+
+import org.hibernate.event.spi.PreInsertEvent;
+import org.hibernate.event.spi.PreInsertEventListener;
+
+/**
+ * INSERT 직전에 댓글 경로를 정한다.
+ * 이 시점에는 시퀀스로 id 가 할당되어 있으므로, 엔티티와 INSERT 될 값(state) 에 함께 넣어주면 UPDATE 가 따로 나가지 않는다.
+ */
+public class CommentPathListener implements PreInsertEventListener {
+
+    @Override
+    public boolean onPreInsert(PreInsertEvent event) {
+        if (event.getEntity() instanceof Comment comment) {
+            String path = comment.assignPath((Long) event.getId());
+
+            int pathIndex = event.getPersister().getEntityMetamodel().getPropertyIndex("path");
+            event.getState()[pathIndex] = path;
+        }
+        return false;  // INSERT 를 막지 않음
+    }
+}
@@ -0,0 +1,91 @@
+package toyproject.noticeBoard.domain.comment.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import toyproject.noticeBoard.domain.comment.dto.CommentSlice;
+import toyproject.noticeBoard.domain.comment.dto.CommentView;
+import toyproject.noticeBoard.domain.comment.dto.CommentWriteRequest;
+import toyproject.noticeBoard.domain.comment.service.CommentService;
+import toyproject.noticeBoard.domain.comment.stream.CommentStreamBroadcaster;
+import toyproject.noticeBoard.global.http.ContentVersion;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CommentStreamBroadcaster commentStreamBroadcaster;
+
+    // 게시글의 댓글 목록 (대댓글 제외), 다음 페이지는 응답의 nextCursor 로 요청
+    @GetMapping("/posts/{postId}/comments")
+    public CommentSlice comments(@PathVariable Long postId,
+                                 @RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = "20") int size) {
+        return commentService.findPageByPostId(postId, cursor, size);
+    }
+
+    // 댓글 쓰기, 응답은 커밋된 댓글 id (comment.ingestion.enabled=true 면 배치로 모아서 커밋)
+    @PostMapping("/posts/{postId}/comments")
+    @ResponseStatus(HttpStatus.CREATED)
+    public CompletableFuture<Long> write(@AuthenticationPrincipal UserDetails user,
+                                         @PathVariable Long postId,
+                                         @RequestBody CommentWriteRequest request) throws Exception {
+        return commentService.write(user.getUsername(), postId, request.parentId(), request.content());
+    }
+
+    // 게시글의 댓글 트리 전체 (바뀌지 않았으면 집계 쿼리 1번 후 304)
+    @GetMapping("/posts/{postId}/comments/tree")
+    public ResponseEntity<List<CommentView>> tree(@PathVariable Long postId, WebRequest request) {
+        ContentVersion version = commentService.findTreeVersion(postId);
+        if (version.checkNotModified(request)) {
+            return null;
+        }
+        return version.ok(commentService.findTreeByPostId(postId));
+    }
+
+    // 댓글의 대댓글 목록
+    @GetMapping("/posts/{postId}/comments/{commentId}/replies")
+    public CommentSlice replies(@PathVariable Long postId,
+                                @PathVariable Long commentId,
+                                @RequestParam(required = false) String cursor,
+                                @RequestParam(defaultValue = "20") int size) {
+        return commentService.findReplyPage(postId, commentId, cursor, size);
+    }
+
+    // 게시글에 새로 달리거나 삭제되는 댓글 (SSE, event: created / removed)
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long postId) {
+        return commentStreamBroadcaster.subscribe(postId);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String badRequest(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+
+    // 댓글 대기열이 가득 찬 경우
+    @ExceptionHandler(RejectedExecutionException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String unavailable(RejectedExecutionException e) {
+        return e.getMessage();
+    }
+}
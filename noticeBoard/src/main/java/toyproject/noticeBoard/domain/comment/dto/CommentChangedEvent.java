@@ -0,0 +1,41 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import toyproject.noticeBoard.domain.comment.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글이 달리거나 삭제되었다는 이벤트 (커밋된 뒤 SSE 구독자에게 전달)
+ * 게시글별로 구독자를 찾으므로 삭제 이벤트도 postId 를 담는다.
+ */
+public record CommentChangedEvent(
+        Type type,
+        Long postId,
+        Long commentId,
+        Long parentId,
+        Long writerId,
+        String content,
+        LocalDateTime createdDate
+) {
+
+    public enum Type {
+        CREATED, REMOVED
+    }
+
+    // 연관관계는 id 만 꺼내므로 프록시가 초기화되지 않는다
+    public static CommentChangedEvent created(Comment comment) {
+        return new CommentChangedEvent(
+                Type.CREATED,
+                comment.getPost() == null ? null : comment.getPost().getId(),
+                comment.getId(),
+                comment.getParent() == null ? null : comment.getParent().getId(),
+                comment.getWriter() == null ? null : comment.getWriter().getId(),
+                comment.getContent(),
+                comment.getCreateData()
+        );
+    }
+
+    public static CommentChangedEvent removed(Long postId, Long commentId) {
+        return new CommentChangedEvent(Type.REMOVED, postId, commentId, null, null, CommentView.REMOVED_CONTENT, null);
+    }
+}
@@ -0,0 +1,34 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (작성 시간, 댓글 id) 키셋 커서
+ * 클라이언트에는 Base64 문자열로만 주고받는다.
+ */
+public record CommentCursor(LocalDateTime createdDate, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static CommentCursor from(CommentRow row) {
+        return new CommentCursor(row.createdDate(), row.id());
+    }
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+/**
+ * 대기열로 저장할 댓글
+ * 연관관계는 id 로만 받아서 프록시로 연결한다. (부모가 없으면 parentId 는 null)
+ */
+public record CommentIngestionRequest(Long writerId, Long postId, Long parentId, String content) {
+}
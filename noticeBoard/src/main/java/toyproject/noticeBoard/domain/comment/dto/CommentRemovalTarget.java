@@ -0,0 +1,8 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+/**
+ * DB 에서 서브트리째 지울 댓글 (경로 접두사로 자신과 그 아래 대댓글을 모두 지운다)
+ * 압축 작업의 루트 댓글, 회원탈퇴의 회원 댓글
+ */
+public record CommentRemovalTarget(Long id, String path) {
+}
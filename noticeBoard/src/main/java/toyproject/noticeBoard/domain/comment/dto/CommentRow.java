@@ -0,0 +1,18 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 트리를 만들기 위해 한 번의 쿼리로 가져오는 댓글 한 행
+ * 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않는다.
+ */
+public record CommentRow(
+        Long id,
+        Long parentId,
+        Long writerId,
+        String writerNickname,
+        String content,
+        boolean removed,
+        LocalDateTime createdDate
+) {
+}
@@ -0,0 +1,24 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 댓글 목록 한 페이지
+ * 대댓글은 포함하지 않으므로 (replies 는 비어있음) 대댓글 API 로 따로 조회한다.
+ * 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+public record CommentSlice(List<CommentView> comments, String nextCursor, boolean hasNext) {
+
+    // size + 1 개를 조회해서 다음 페이지가 있는지 판단한다
+    public static CommentSlice of(List<CommentRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<CommentRow> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<CommentView> comments = pageRows.stream()
+                .map(row -> CommentView.of(row, List.of()))
+                .toList();
+        String nextCursor = hasNext ? CommentCursor.from(pageRows.get(size - 1)).encode() : null;
+
+        return new CommentSlice(comments, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,50 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 행들을 id -> 노드 맵으로 한 번에 이어 붙여 트리로 만든다. O(n)
+ * 자식은 행 순서대로 부모 밑에 붙으므로 작성 시간 순이나 경로(path) 순으로 정렬해서 넘긴다.
+ * 부모가 목록에 없는 행(서브트리의 루트)은 최상위가 된다.
+ */
+public final class CommentTreeAssembler {
+
+    private CommentTreeAssembler() {
+    }
+
+    public static List<CommentView> assemble(List<CommentRow> rows) {
+        Map<Long, Node> nodes = new HashMap<>(rows.size() * 2);
+        rows.forEach(row -> nodes.put(row.id(), new Node(row)));
+
+        List<Node> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            Node node = nodes.get(row.id());
+            Node parent = row.parentId() == null ? null : nodes.get(row.parentId());
+
+            if (parent == null) {  // 댓글 (부모가 다른 게시글에 있는 경우도 최상위로 보여줌)
+                roots.add(node);
+            } else {  // 대댓글
+                parent.children.add(node);
+            }
+        }
+
+        return roots.stream().map(Node::toView).toList();
+    }
+
+    // 조립하는 동안만 쓰는 가변 노드
+    private static final class Node {
+        private final CommentRow row;
+        private final List<Node> children = new ArrayList<>();
+
+        private Node(CommentRow row) {
+            this.row = row;
+        }
+
+        private CommentView toView() {
+            return CommentView.of(row, children.stream().map(Node::toView).toList());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import toyproject.noticeBoard.global.http.ContentVersion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글의 댓글 트리 검증자를 만들기 위한 집계 (댓글 수, 댓글과 작성자의 마지막 수정 시간)
+ * 삭제 표시는 수정 시간을, 압축(DB 삭제)은 댓글 수를 바꾼다. 작성자의 별명이 바뀌어도 트리가 달라지므로 작성자 수정 시간도 본다.
+ *
+ * 압축으로 지워져도 max(수정 시간)은 그대로라서 If-Modified-Since 로 비교하면 지워지기 전 트리에 304 를 준다.
+ * 그래서 Last-Modified 는 보내지 않고 댓글 수가 들어간 ETag 로만 비교한다.
+ */
+public record CommentTreeVersion(long count, LocalDateTime commentModified, LocalDateTime writerModified) {
+
+    public ContentVersion toContentVersion() {
+        LocalDateTime lastModified = latest(commentModified, writerModified);
+        return ContentVersion.of(count + "-" + ContentVersion.tagOf(lastModified), null);
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+}
@@ -0,0 +1,33 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 화면에 보여줄 댓글 (불변)
+ * 삭제된 댓글은 내용 대신 "삭제된 댓글입니다." 를 보여준다.
+ */
+public record CommentView(
+        Long id,
+        Long writerId,
+        String writerNickname,
+        String content,
+        boolean removed,
+        LocalDateTime createdDate,
+        List<CommentView> replies
+) {
+
+    public static final String REMOVED_CONTENT = "삭제된 댓글입니다.";
+
+    public static CommentView of(CommentRow row, List<CommentView> replies) {
+        return new CommentView(
+                row.id(),
+                row.writerId(),
+                row.writerNickname(),
+                row.removed() ? REMOVED_CONTENT : row.content(),
+                row.removed(),
+                row.createdDate(),
+                List.copyOf(replies)
+        );
+    }
+}
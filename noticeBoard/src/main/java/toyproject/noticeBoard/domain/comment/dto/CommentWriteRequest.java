@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+/**
+ * 댓글 쓰기 요청 본문 (대댓글이 아니면 parentId 는 null)
+ */
+public record CommentWriteRequest(Long parentId, String content) {
+}
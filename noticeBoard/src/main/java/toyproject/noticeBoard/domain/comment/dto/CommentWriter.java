@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.comment.dto;
+
+/**
+ * 댓글 id, 작성자 id (답글 알림을 받을 회원)
+ */
+public record CommentWriter(Long commentId, Long writerId) {
+}
@@ -0,0 +1,33 @@
+package toyproject.noticeBoard.domain.comment.event;
+
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 작성 (게시글의 이벤트와 순서를 맞추도록 게시글을 aggregate 로 쓰고, 게시글이 없는 댓글은 댓글 자신)
+ */
+public record CommentAdded(Long commentId, Long postId, Long parentId, Long writerId, LocalDateTime createdDate) implements DomainEvent {
+
+    // 연관관계는 id 만 꺼내므로 프록시가 초기화되지 않는다
+    public static CommentAdded of(Comment comment) {
+        return new CommentAdded(
+                comment.getId(),
+                comment.getPost() == null ? null : comment.getPost().getId(),
+                comment.getParent() == null ? null : comment.getParent().getId(),
+                comment.getWriter() == null ? null : comment.getWriter().getId(),
+                comment.getCreateData() == null ? LocalDateTime.now() : comment.getCreateData()
+        );
+    }
+
+    @Override
+    public String aggregateType() {
+        return postId == null ? "comment" : "post";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId == null ? commentId : postId;
+    }
+}
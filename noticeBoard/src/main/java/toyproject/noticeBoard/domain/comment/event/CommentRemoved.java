@@ -0,0 +1,21 @@
+package toyproject.noticeBoard.domain.comment.event;
+
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 삭제 표시 (aggregate 는 CommentAdded 와 같음)
+ */
+public record CommentRemoved(Long commentId, Long postId, Long writerId, LocalDateTime removedDate) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return postId == null ? "comment" : "post";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId == null ? commentId : postId;
+    }
+}
@@ -1,7 +1,159 @@
 package toyproject.noticeBoard.domain.comment.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentRemovalTarget;
+import toyproject.noticeBoard.domain.comment.dto.CommentRow;
+import toyproject.noticeBoard.domain.comment.dto.CommentTreeVersion;
+import toyproject.noticeBoard.domain.comment.dto.CommentWriter;
+import toyproject.noticeBoard.domain.member.dto.MemberActivityCount;
+import toyproject.noticeBoard.domain.post.dto.PostActivity;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
+
+    // 게시글의 모든 댓글을 작성자와 함께 한 번에 조회 (트리 조립용, 부모 -> 자식 순서가 되도록 작성 시간 순)
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c left join c.parent p left join c.writer w " +
+            "where c.post.id = :postId order by c.createData, c.id")
+    List<CommentRow> findRowsByPostId(@Param("postId") Long postId);
+
+    // == 커서 기반 페이지 조회 (post_id, parent_id, createData 인덱스를 탄다) == //
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c left join c.parent p left join c.writer w " +
+            "where c.post.id = :postId and c.parent is null " +
+            "order by c.createData, c.id")
+    List<CommentRow> findTopLevelRows(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c left join c.parent p left join c.writer w " +
+            "where c.post.id = :postId and c.parent is null " +
+            "and (c.createData > :createdDate or (c.createData = :createdDate and c.id > :id)) " +
+            "order by c.createData, c.id")
+    List<CommentRow> findTopLevelRowsAfter(@Param("postId") Long postId,
+                                           @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c join c.parent p left join c.writer w " +
+            "where c.post.id = :postId and p.id = :parentId " +
+            "order by c.createData, c.id")
+    List<CommentRow> findReplyRows(@Param("postId") Long postId, @Param("parentId") Long parentId, Pageable pageable);
+
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c join c.parent p left join c.writer w " +
+            "where c.post.id = :postId and p.id = :parentId " +
+            "and (c.createData > :createdDate or (c.createData = :createdDate and c.id > :id)) " +
+            "order by c.createData, c.id")
+    List<CommentRow> findReplyRowsAfter(@Param("postId") Long postId, @Param("parentId") Long parentId,
+                                        @Param("createdDate") LocalDateTime createdDate, @Param("id") Long id, Pageable pageable);
+
+    // == 스레드 조회 (path 인덱스 범위 스캔, 경로 순 = 화면 순서) == //
+    @Query("select c.path from Comment c where c.id = :id")
+    Optional<String> findPathById(@Param("id") Long id);
+
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRow(c.id, p.id, w.id, w.nickname, c.content, c.isRemoved, c.createData) " +
+            "from Comment c left join c.parent p left join c.writer w " +
+            "where c.path like :path% order by c.path")
+    List<CommentRow> findSubtreeRows(@Param("path") String path);
+
+    // 댓글 트리 조건부 GET 검증자 (댓글 수, 댓글, 작성자의 마지막 수정 시간)
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentTreeVersion(count(c), max(c.lastModifiedDate), max(w.lastModifiedDate)) " +
+            "from Comment c left join c.writer w where c.post.id = :postId")
+    CommentTreeVersion findTreeVersion(@Param("postId") Long postId);
+
+    // == 댓글 삭제 (삭제 표시만, DB 삭제는 CommentCompactionJob) == //
+    // 벌크 UPDATE 는 2차 캐시의 comment 영역 전체를 비우므로, 댓글 하나를 잠그고 불러와서 엔티티로 바꾼다
+    // (동시에 두 번 지워도 카운터가 두 번 줄지 않도록 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Comment c where c.id = :id")
+    Optional<Comment> findForRemoveById(@Param("id") Long id);
+
+    // == 삭제 표시된 댓글 압축 == //
+    long countByIsRemovedTrue();  // 아직 DB 에 남아있는 삭제 표시 댓글 수
+
+    @Query("select min(c.id) from Comment c")
+    Long findMinId();
+
+    @Query("select max(c.id) from Comment c")
+    Long findMaxId();
+
+    // id 범위(기본 키 범위 스캔) 안의 삭제 표시된 루트 댓글
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRemovalTarget(c.id, c.path) from Comment c " +
+            "where c.id > :afterId and c.id <= :lastId and c.parent is null and c.isRemoved = true order by c.id")
+    List<CommentRemovalTarget> findRemovedRootsBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    // 서브트리에서 삭제되지 않은 댓글 (path 인덱스 범위 스캔, 하나만 찾으면 되므로 Pageable 1개)
+    @Query("select d.id from Comment d where d.path like :path% and d.isRemoved = false")
+    List<Long> findLiveIdsByPathPrefix(@Param("path") String path, Pageable pageable);
+
+    /*
+     * 서브트리 삭제는 접두사 DELETE 한 번이지만, 자기 참조 FK 는 행마다 검사되므로
+     * 같은 문장 안에서 부모가 자식보다 먼저 지워질 수 있다. 그래서 먼저 부모 연결을 끊는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Comment c set c.parent = null where c.path like :path%")
+    int bulkUnlinkByPathPrefix(@Param("path") String path);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Comment c where c.path like :path%")
+    int bulkDeleteByPathPrefix(@Param("path") String path);
+
+    // == 회원탈퇴 청크 조회 == //
+    @Query("select c.id from Comment c where c.post.writer.id = :writerId order by c.id")
+    List<Long> findCommentIdsOnPostsOf(@Param("writerId") Long writerId, Pageable pageable);  // 회원 게시글에 달린 댓글
+
+    // 회원이 작성한 댓글의 경로 (id 키셋, 서브트리는 경로 접두사로 지운다)
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentRemovalTarget(c.id, c.path) from Comment c " +
+            "where c.writer.id = :writerId and c.id > :afterId order by c.id")
+    List<CommentRemovalTarget> findPathsByWriterIdAfter(@Param("writerId") Long writerId, @Param("afterId") Long afterId, Pageable pageable);
+
+    // == 게시글 삭제 == //
+    @Modifying
+    @Query("update Comment c set c.parent = null where c.post.id = :postId")
+    int bulkUnlinkByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId")
+    int bulkDeleteByPostId(@Param("postId") Long postId);
+
+    // 엔티티를 불러오지 않고 한 번에 삭제 (자식 댓글의 연결은 먼저 끊어야 함)
+    @Modifying
+    @Query("update Comment c set c.parent = null where c.parent.id in :ids")
+    int bulkUnlinkChildrenOf(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Comment c where c.id in :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
+
+    // == 회원 활동 카운터 == //
+    // 게시글을 지울 때 함께 지워지는 댓글 수 (작성자별, 삭제 표시된 댓글은 이미 빠져있음)
+    @Query("select new toyproject.noticeBoard.domain.member.dto.MemberActivityCount(c.writer.id, count(c), max(c.createData)) " +
+            "from Comment c where c.post.id = :postId and c.isRemoved = false and c.writer is not null group by c.writer.id")
+    List<MemberActivityCount> countActiveByWriterOnPost(@Param("postId") Long postId);
+
+    // 다시 세기 (마지막 활동 시간은 삭제 표시된 댓글도 포함)
+    @Query("select new toyproject.noticeBoard.domain.member.dto.MemberActivityCount(" +
+            "c.writer.id, sum(case when c.isRemoved = false then 1L else 0L end), max(c.createData)) " +
+            "from Comment c where c.writer.id > :afterId and c.writer.id <= :lastId group by c.writer.id")
+    List<MemberActivityCount> countByWriterBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+
+    // == 인기 게시글 == //
+    @Query("select new toyproject.noticeBoard.domain.post.dto.PostActivity(c.post.id, c.createData) from Comment c " +
+            "where c.createData >= :since and c.post is not null")
+    List<PostActivity> findPostActivitySince(@Param("since") LocalDateTime since);  // 시작할 때 최근 활동 채우기
+
+    // == 답글 알림 == //
+    @Query("select new toyproject.noticeBoard.domain.comment.dto.CommentWriter(c.id, c.writer.id) from Comment c " +
+            "where c.id in :ids and c.writer is not null")
+    List<CommentWriter> findWritersByIdIn(@Param("ids") Collection<Long> ids);  // 답글이 달린 댓글의 작성자
 }
@@ -0,0 +1,208 @@
+package toyproject.noticeBoard.domain.comment.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.dto.CommentRemovalTarget;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 표시된 댓글 압축 작업
+ * 댓글 삭제 요청은 삭제 표시(UPDATE 1번)만 하고, 스레드 전체가 삭제 표시된 댓글은 이 작업이 주기적으로 DB 에서 지운다.
+ *
+ * 1. 댓글 id 공간을 chunk-size 너비의 범위로 나누고, 범위마다 삭제 표시된 루트 댓글을 기본 키 범위 스캔으로 찾는다.
+ * 2. 루트마다 경로 접두사(path like :path%)로 삭제되지 않은 댓글이 있는지 하나만 찾아보고,
+ *    없으면 같은 짧은 트랜잭션에서 스레드 전체를 지운다. (스레드마다 확인 1번, 연결 끊기, DELETE 2번)
+ *    대댓글이 남아있는 루트도 실행마다 다시 보지만, 범위 스캔과 인덱스 조회 1번이라 전체 댓글 수와 상관없다.
+ * 3. 범위 사이에 쉬고, 커넥션 풀이 바쁘면 이번 실행을 멈추고 다음 실행에서 멈춘 id 부터 이어서 한다.
+ *    청크가 느려지면(slow-chunk-ms 초과) 걸린 시간만큼 더 쉰다.
+ */
+@Component
+@Slf4j
+public class CommentCompactionJob {
+
+    private static final Pageable FIRST_ONE = PageRequest.of(0, 1);
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long slowChunkMillis;
+    private final double maxPoolUsage;
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+
+    // == 메트릭 == //
+    private final AtomicLong tombstoneBacklog = new AtomicLong();
+    private final Counter deletedCounter;
+    private final Counter throttledCounter;
+    private final Timer chunkTimer;
+
+    private long resumeAfterId = 0L;  // 바빠서 멈췄을 때 다음 실행이 이어서 할 위치
+
+    public CommentCompactionJob(@Value("${comment.compaction.enabled:true}") boolean enabled,
+                                @Value("${comment.compaction.chunk-size:1000}") int chunkSize,
+                                @Value("${comment.compaction.pause-ms:50}") long pauseMillis,
+                                @Value("${comment.compaction.slow-chunk-ms:500}") long slowChunkMillis,
+                                @Value("${comment.compaction.max-pool-usage:0.5}") double maxPoolUsage,
+                                CommentRepository commentRepository,
+                                TransactionTemplate transactionTemplate,
+                                DataSource dataSource,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.slowChunkMillis = slowChunkMillis;
+        this.maxPoolUsage = maxPoolUsage;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.dataSource = dataSource;
+
+        meterRegistry.gauge("comment.tombstone.backlog", tombstoneBacklog);
+        this.deletedCounter = Counter.builder("comment.compaction.deleted")
+                .description("압축 작업이 DB 에서 지운 댓글 수")
+                .register(meterRegistry);
+        this.throttledCounter = Counter.builder("comment.compaction.throttled")
+                .description("DB 가 바빠서 압축을 멈춘 횟수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("comment.compaction.chunk")
+                .description("id 범위 하나를 살펴보고 지우는 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${comment.compaction.interval-ms:60000}",
+            initialDelayString = "${comment.compaction.initial-delay-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            compact();
+        } catch (RuntimeException e) {
+            log.error("댓글 압축 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    /**
+     * 지울 수 있는 스레드를 모두 지우거나 DB 가 바빠질 때까지 압축하고, 지운 댓글 수를 돌려준다.
+     */
+    public synchronized long compact() {
+        tombstoneBacklog.set(transactionTemplate.execute(status -> commentRepository.countByIsRemovedTrue()));
+        IdRange ids = transactionTemplate.execute(status -> new IdRange(commentRepository.findMinId(), commentRepository.findMaxId()));
+        if (ids.minId() == null) {  // 댓글이 없음
+            resumeAfterId = 0L;
+            return 0;
+        }
+
+        long afterId = Math.max(resumeAfterId, ids.minId() - 1);
+        long deleted = 0;
+
+        while (afterId < ids.maxId()) {
+            if (isDatabaseBusy()) {
+                throttledCounter.increment();
+                log.info("DB 가 바빠서 댓글 압축을 멈춥니다. 다음 실행에서 id {} 부터 이어서 합니다.", afterId);
+                break;
+            }
+
+            long from = afterId;
+            long to = Math.min(afterId + chunkSize, ids.maxId());
+            long start = System.nanoTime();
+            Integer chunkDeleted = transactionTemplate.execute(status -> compactRange(from, to));
+            long chunkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            chunkTimer.record(chunkMillis, TimeUnit.MILLISECONDS);
+
+            deleted += chunkDeleted;
+            deletedCounter.increment(chunkDeleted);
+            afterId = to;
+
+            if (afterId < ids.maxId()) {
+                pause(chunkMillis);
+            }
+        }
+
+        resumeAfterId = afterId < ids.maxId() ? afterId : 0L;  // 끝까지 했으면 다음 실행은 처음부터
+        tombstoneBacklog.addAndGet(-deleted);
+        if (deleted > 0) {
+            log.info("삭제 표시된 댓글 {}개를 DB 에서 지웠습니다.", deleted);
+        }
+        return deleted;
+    }
+
+    /**
+     * id 범위 (afterId, lastId] 하나만 압축하고 지운 댓글 수를 돌려준다. (방금 지운 스레드처럼 범위를 아는 경우)
+     */
+    public synchronized long compactBetween(long afterId, long lastId) {
+        int deleted = transactionTemplate.execute(status -> compactRange(afterId, lastId));
+        deletedCounter.increment(deleted);
+        tombstoneBacklog.addAndGet(-deleted);
+        return deleted;
+    }
+
+    private int compactRange(long afterId, long lastId) {
+        int deletedComments = 0;
+        for (CommentRemovalTarget root : commentRepository.findRemovedRootsBetween(afterId, lastId)) {
+            if (!commentRepository.findLiveIdsByPathPrefix(root.path(), FIRST_ONE).isEmpty()) {
+                continue;  // 삭제되지 않은 대댓글이 남아있는 스레드
+            }
+            commentRepository.bulkUnlinkByPathPrefix(root.path());
+            deletedComments += commentRepository.bulkDeleteByPathPrefix(root.path());
+        }
+        return deletedComments;
+    }
+
+    // == 부하 조절 == //
+
+    // 커넥션을 기다리는 요청이 있거나, 사용 중인 커넥션이 풀의 max-pool-usage 이상이면 바쁜 것으로 본다
+    private boolean isDatabaseBusy() {
+        HikariDataSource hikari = hikariDataSource();
+        if (hikari == null || hikari.getHikariPoolMXBean() == null) {  // 풀이 아직 시작되지 않은 경우
+            return false;
+        }
+
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        return pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections() >= hikari.getMaximumPoolSize() * maxPoolUsage;
+    }
+
+    private HikariDataSource hikariDataSource() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    // 청크가 느렸으면 걸린 시간만큼 더 쉬어서 DB 를 쓰는 시간이 절반을 넘지 않도록 한다
+    private void pause(long chunkMillis) {
+        long sleepMillis = pauseMillis + (chunkMillis > slowChunkMillis ? chunkMillis : 0);
+        if (sleepMillis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record IdRange(Long minId, Long maxId) {
+    }
+}
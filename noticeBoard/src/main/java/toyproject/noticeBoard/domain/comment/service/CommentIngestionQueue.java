@@ -0,0 +1,239 @@
+package toyproject.noticeBoard.domain.comment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentChangedEvent;
+import toyproject.noticeBoard.domain.comment.dto.CommentIngestionRequest;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.global.outbox.DomainEventOutbox;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 그룹 커밋 대기열
+ * 라이브 이벤트처럼 댓글이 몰리는 게시글에서 save 한 건마다 트랜잭션과 커밋이 생기지 않도록,
+ * 요청은 대기열에 넣고 쓰기 스레드가 max-batch-size 개가 모이거나 max-latency-ms 가 지나면 한 트랜잭션으로 저장한다.
+ * INSERT 는 hibernate.jdbc.batch_size 로 묶이고, id 는 pooled-lo 시퀀스에서 메모리로 할당된다.
+ *
+ * 요청마다 CompletableFuture 를 돌려주므로 호출한 쪽은 커밋된 뒤 댓글 id 를 받는다.
+ * comment.ingestion.enabled=true 일 때만 등록되고, 댓글 쓰기(CommentService.write)가 이 대기열을 거친다.
+ */
+@Component
+@ConditionalOnProperty(name = "comment.ingestion.enabled", havingValue = "true")
+@Slf4j
+public class CommentIngestionQueue implements SmartLifecycle {
+
+    private final int maxBatchSize;
+    private final long maxLatencyNanos;
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+    private final BlockingQueue<PendingComment> queue;
+
+    // == 메트릭 == //
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer commitTimer;
+    private final Timer latencyTimer;
+
+    private volatile boolean running = false;
+    private Thread writerThread;
+
+    public CommentIngestionQueue(@Value("${comment.ingestion.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${comment.ingestion.max-batch-size:200}") int maxBatchSize,
+                                 @Value("${comment.ingestion.max-latency-ms:20}") long maxLatencyMillis,
+                                 EntityManager em,
+                                 TransactionTemplate transactionTemplate,
+                                 ApplicationEventPublisher eventPublisher,
+                                 DomainEventOutbox domainEventOutbox,
+                                 MeterRegistry meterRegistry) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.domainEventOutbox = domainEventOutbox;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        meterRegistry.gauge("comment.ingestion.queue.size", queue, BlockingQueue::size);
+        this.rejectedCounter = meterRegistry.counter("comment.ingestion.rejected");
+        this.failedCounter = meterRegistry.counter("comment.ingestion.failed");
+        this.batchSizeSummary = DistributionSummary.builder("comment.ingestion.batch.size")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder("comment.ingestion.commit")
+                .description("배치 하나를 저장하고 커밋하는 시간")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("comment.ingestion.latency")
+                .description("대기열에 들어온 뒤 커밋될 때까지의 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 댓글을 대기열에 넣는다. 대기열이 가득 차 있으면 기다리지 않고 실패한 future 를 돌려준다.
+     */
+    public CompletableFuture<Long> submit(CommentIngestionRequest request) {
+        PendingComment pending = new PendingComment(request);
+
+        if (!running || !queue.offer(pending)) {
+            rejectedCounter.increment();
+            return CompletableFuture.failedFuture(new RejectedExecutionException("댓글 대기열이 가득 찼습니다."));
+        }
+        return pending.future;
+    }
+
+    // == 쓰기 스레드 == //
+    private void drainLoop() {
+        List<PendingComment> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {  // 종료할 때는 남은 댓글까지 저장
+            try {
+                PendingComment first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                fillBatch(batch, first.enqueuedAt + maxLatencyNanos);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException e) {
+                log.error("댓글 배치 저장 중 오류가 발생했습니다.", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 첫 댓글의 마감 시간까지 배치를 채운다
+    private void fillBatch(List<PendingComment> batch, long deadline) throws InterruptedException {
+        queue.drainTo(batch, maxBatchSize - batch.size());
+
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatchSize - batch.size());
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        batchSizeSummary.record(batch.size());
+
+        try {
+            commitTimer.record(() -> persistAll(batch));
+            batch.forEach(this::complete);
+        } catch (RuntimeException e) {
+            // 잘못된 댓글 하나 때문에 배치 전체가 실패하지 않도록 한 건씩 다시 저장
+            log.warn("댓글 배치 저장에 실패해서 한 건씩 다시 저장합니다. size: {}", batch.size(), e);
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(PendingComment pending) {
+        try {
+            persistAll(List.of(pending));
+            complete(pending);
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            pending.future.completeExceptionally(e);
+        }
+    }
+
+    private void persistAll(List<PendingComment> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (PendingComment pending : batch) {
+                CommentIngestionRequest request = pending.request;
+                Comment comment = Comment.builder()
+                        .writer(reference(Member.class, request.writerId()))
+                        .post(reference(Post.class, request.postId()))
+                        .parent(reference(Comment.class, request.parentId()))
+                        .content(request.content())
+                        .build();
+                em.persist(comment);
+                domainEventOutbox.append(CommentAdded.of(comment));  // 댓글 INSERT 와 함께 배치로 묶임
+                pending.savedEvent = CommentChangedEvent.created(comment);
+            }
+
+            em.flush();
+            em.clear();
+        });
+    }
+
+    private <T> T reference(Class<T> entityClass, Long id) {
+        return id == null ? null : em.getReference(entityClass, id);
+    }
+
+    // 커밋된 뒤에 부르므로 이벤트는 트랜잭션 밖에서 발행된다
+    private void complete(PendingComment pending) {
+        latencyTimer.record(System.nanoTime() - pending.enqueuedAt, TimeUnit.NANOSECONDS);
+        pending.future.complete(pending.savedEvent.commentId());
+        eventPublisher.publishEvent(pending.savedEvent);
+    }
+
+    // == SmartLifecycle == //
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "comment-ingestion-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static final class PendingComment {
+        private final CommentIngestionRequest request;
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private CommentChangedEvent savedEvent;  // 쓰기 스레드에서만 접근
+
+        private PendingComment(CommentIngestionRequest request) {
+            this.request = request;
+        }
+    }
+}
@@ -1,15 +1,36 @@
 package toyproject.noticeBoard.domain.comment.service;
 
 import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentSlice;
+import toyproject.noticeBoard.domain.comment.dto.CommentView;
+import toyproject.noticeBoard.global.http.ContentVersion;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface CommentService {
     void save(Comment comment);
 
+    CompletableFuture<Long> write(String username, Long postId, Long parentId, String content) throws Exception;  // 로그인한 회원의 댓글 쓰기, 커밋된 뒤 댓글 id
+
     Comment findById(Long id) throws Exception;
 
+    /**
+     * 모든 댓글을 한 번에 불러오므로 요청 처리 경로에서는 사용하지 않는다.
+     * @deprecated 게시글별 커서 조회 {@link #findPageByPostId}, {@link #findReplyPage} 를 사용
+     */
+    @Deprecated
     List<Comment> findAll();
 
+    CommentSlice findPageByPostId(Long postId, String cursor, int size);  // 게시글의 댓글 (대댓글 제외)
+
+    CommentSlice findReplyPage(Long postId, Long parentId, String cursor, int size);  // 댓글의 대댓글
+
+    List<CommentView> findTreeByPostId(Long postId);  // 게시글의 댓글 트리 (쿼리 1번)
+
+    ContentVersion findTreeVersion(Long postId);  // 댓글 트리 조건부 GET 검증자 (ETag, Last-Modified)
+
+    List<CommentView> findThread(Long commentId) throws Exception;  // 댓글과 그 아래 모든 대댓글 (경로 범위 스캔)
+
     void remove(Long id) throws Exception;
 }
@@ -1,23 +1,78 @@
 package toyproject.noticeBoard.domain.comment.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentChangedEvent;
+import toyproject.noticeBoard.domain.comment.dto.CommentCursor;
+import toyproject.noticeBoard.domain.comment.dto.CommentIngestionRequest;
+import toyproject.noticeBoard.domain.comment.dto.CommentRow;
+import toyproject.noticeBoard.domain.comment.dto.CommentSlice;
+import toyproject.noticeBoard.domain.comment.dto.CommentTreeAssembler;
+import toyproject.noticeBoard.domain.comment.dto.CommentView;
 import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.event.CommentRemoved;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+import toyproject.noticeBoard.global.http.ContentVersion;
+import toyproject.noticeBoard.global.outbox.DomainEventOutbox;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox domainEventOutbox;
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final ObjectProvider<CommentIngestionQueue> commentIngestionQueue;  // comment.ingestion.enabled=true 일 때만 있음
 
+    // 커밋된 뒤 SSE 구독자에게 전달된다 (CommentStreamListener)
     @Override
     public void save(Comment comment) {
         commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentChangedEvent.created(comment));
+        domainEventOutbox.append(CommentAdded.of(comment));
+    }
+
+    /**
+     * 회원 id 만 조회하고 연관관계는 프록시로 연결한다.
+     * 대기열이 있으면 CommentIngestionQueue 에 넣고 배치가 커밋된 뒤 완료되고, 없으면 이 트랜잭션에서 바로 저장한다.
+     */
+    @Override
+    public CompletableFuture<Long> write(String username, Long postId, Long parentId, String content) throws Exception {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("댓글 내용이 없습니다.");
+        }
+        Long writerId = memberRepository.findIdByUsername(username).orElseThrow(() -> new Exception("회원이 없습니다."));
+
+        CommentIngestionQueue queue = commentIngestionQueue.getIfAvailable();
+        if (queue != null) {
+            return queue.submit(new CommentIngestionRequest(writerId, postId, parentId, content));
+        }
+
+        Comment comment = Comment.builder()
+                .writer(memberRepository.getReferenceById(writerId))
+                .post(postRepository.getReferenceById(postId))
+                .parent(parentId == null ? null : commentRepository.getReferenceById(parentId))
+                .content(content)
+                .build();
+        save(comment);
+        return CompletableFuture.completedFuture(comment.getId());
     }
 
     @Override
@@ -27,17 +82,85 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
+    @Deprecated
     @Transactional(readOnly = true)
     public List<Comment> findAll() {
         return commentRepository.findAll();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentView> findTreeByPostId(Long postId) {
+        return CommentTreeAssembler.assemble(commentRepository.findRowsByPostId(postId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ContentVersion findTreeVersion(Long postId) {
+        return commentRepository.findTreeVersion(postId).toContentVersion();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentView> findThread(Long commentId) throws Exception {
+        String path = commentRepository.findPathById(commentId).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        return CommentTreeAssembler.assemble(commentRepository.findSubtreeRows(path));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSlice findPageByPostId(Long postId, String cursor, int size) {
+        int pageSize = limitPageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);  // 다음 페이지 여부 확인용으로 하나 더
+
+        List<CommentRow> rows;
+        if (cursor == null) {
+            rows = commentRepository.findTopLevelRows(postId, pageable);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor);
+            rows = commentRepository.findTopLevelRowsAfter(postId, after.createdDate(), after.id(), pageable);
+        }
+        return CommentSlice.of(rows, pageSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentSlice findReplyPage(Long postId, Long parentId, String cursor, int size) {
+        int pageSize = limitPageSize(size);
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+
+        List<CommentRow> rows;
+        if (cursor == null) {
+            rows = commentRepository.findReplyRows(postId, parentId, pageable);
+        } else {
+            CommentCursor after = CommentCursor.decode(cursor);
+            rows = commentRepository.findReplyRowsAfter(postId, parentId, after.createdDate(), after.id(), pageable);
+        }
+        return CommentSlice.of(rows, pageSize);
+    }
+
+    private int limitPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 삭제 표시만 한다. (댓글을 잠그고 조회 1번 + UPDATE 1번 + 이벤트 INSERT 1번)
+     * 벌크 UPDATE 대신 엔티티를 바꾸므로 2차 캐시에서는 이 댓글만 빠지고, 다른 댓글은 캐시에 남는다.
+     * 스레드 전체가 삭제 표시된 댓글은 CommentCompactionJob 이 나중에 DB 에서 지운다.
+     * 이미 삭제된 댓글을 다시 지우면 카운터가 두 번 줄지 않도록 아무것도 하지 않는다.
+     */
     @Override
     public void remove(Long id) throws Exception {
-        Comment comment = commentRepository.findById(id).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        Comment comment = commentRepository.findForRemoveById(id).orElseThrow(() -> new Exception("댓글이 없습니다."));
+        if (comment.isRemoved()) {
+            return;
+        }
         comment.remove();
 
-        List<Comment> removableCommentList = comment.findRemovableList();
-        removableCommentList.forEach(removableComment -> commentRepository.delete(removableComment));
+        // 연관관계는 프록시의 id 만 꺼내므로 불러오지 않는다
+        Long postId = comment.getPost() == null ? null : comment.getPost().getId();
+        Long writerId = comment.getWriter() == null ? null : comment.getWriter().getId();
+        eventPublisher.publishEvent(CommentChangedEvent.removed(postId, id));
+        domainEventOutbox.append(new CommentRemoved(id, postId, writerId, LocalDateTime.now()));
     }
 }
@@ -0,0 +1,303 @@
+package toyproject.noticeBoard.domain.comment.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import toyproject.noticeBoard.domain.comment.dto.CommentChangedEvent;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 댓글 SSE 구독자 관리, 전달
+ * 커밋된 댓글 이벤트를 메모리에서 구독자에게 나눠주므로, 구독자가 몇 명이든 DB 를 조회하지 않는다.
+ *
+ * - 게시글마다 구독자 목록을 따로 둔다.
+ * - publish 는 구독자마다 버퍼(buffer-size)에 넣기만 하고 바로 돌아온다. 실제 전송은 sender 스레드가 한다.
+ * - 버퍼가 가득 찬 구독자(느린 클라이언트)는 연결을 끊는다. 클라이언트는 다시 연결한 뒤 커서 조회로 빠진 댓글을 채운다.
+ * - 전송 하나가 send-timeout-ms 안에 끝나지 않으면(멈춘 클라이언트) 구독을 끊는다.
+ *   막힌 전송은 소켓 쓰기 타임아웃까지 sender 스레드를 붙잡고 있으므로, 그동안 풀에 스레드를 하나씩 더 둔다. (max-stalled-sends 까지)
+ *   그래서 멈춘 클라이언트 몇 개가 다른 게시글의 전송을 막지 못한다.
+ * - heartbeat-seconds 마다 주석 프레임을 보내서 프록시가 연결을 끊지 않게 하고, 끊긴 연결을 정리한다.
+ */
+@Component
+@Slf4j
+public class CommentStreamBroadcaster {
+
+    private static final Frame HEARTBEAT = new Frame(null, null, "heartbeat");
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final int senderThreads;
+    private final int maxStalledSends;
+
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ThreadPoolExecutor sender;
+    private final ScheduledExecutorService heartbeat;
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();  // 지금 보내는 중인 구독자
+    private final AtomicInteger stalledSends = new AtomicInteger();  // 아직 끝나지 않은 막힌 전송 수
+
+    private final Counter droppedCounter;
+    private final Counter stalledCounter;
+
+    public CommentStreamBroadcaster(@Value("${comment.stream.buffer-size:64}") int bufferSize,
+                                    @Value("${comment.stream.timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${comment.stream.heartbeat-seconds:15}") long heartbeatSeconds,
+                                    @Value("${comment.stream.sender-threads:4}") int senderThreads,
+                                    @Value("${comment.stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+                                    @Value("${comment.stream.max-stalled-sends:16}") int maxStalledSends,
+                                    MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.senderThreads = senderThreads;
+        this.maxStalledSends = maxStalledSends;
+
+        AtomicInteger senderNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads + maxStalledSends, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> daemon(runnable, "comment-stream-sender-" + senderNumber.incrementAndGet()));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "comment-stream-heartbeat"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        long checkMillis = Math.max(10, sendTimeoutMillis / 2);
+        this.heartbeat.scheduleAtFixedRate(this::checkStalledSends, checkMillis, checkMillis, TimeUnit.MILLISECONDS);
+
+        meterRegistry.gauge("comment.stream.subscribers", subscriberCount);
+        this.droppedCounter = Counter.builder("comment.stream.dropped")
+                .description("버퍼가 가득 차서 끊은 구독자 수")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("comment.stream.stalled")
+                .description("전송이 send-timeout-ms 안에 끝나지 않아서 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        return subscribe(postId, new SseEmitter(timeoutMillis));
+    }
+
+    // 테스트에서 전송이 막히는 emitter 를 넣을 수 있도록
+    SseEmitter subscribe(Long postId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(postId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribersByPost.compute(postId, (id, subscribers) -> {
+            Set<Subscriber> result = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            result.add(subscriber);
+            return result;
+        });
+        subscriberCount.incrementAndGet();
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber));
+
+        enqueue(subscriber, new Frame(null, null, "connected"));  // 응답 헤더가 바로 나가도록
+        return subscriber.emitter;
+    }
+
+    public int countSubscribers(Long postId) {
+        Set<Subscriber> subscribers = subscribersByPost.get(postId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    // 구독자 버퍼에 넣기만 하고 전송을 기다리지 않는다
+    public void publish(CommentChangedEvent event) {
+        Set<Subscriber> subscribers = event.postId() == null ? null : subscribersByPost.get(event.postId());
+        if (subscribers == null) {
+            return;
+        }
+
+        Frame frame = new Frame(event.type().name().toLowerCase(), String.valueOf(event.commentId()), event);
+        subscribers.forEach(subscriber -> enqueue(subscriber, frame));
+    }
+
+    private void enqueue(Subscriber subscriber, Frame frame) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+
+        if (!subscriber.buffer.offer(frame)) {
+            droppedCounter.increment();
+            log.debug("느린 구독자의 연결을 끊습니다. postId: {}", subscriber.postId);
+            close(subscriber);
+            return;
+        }
+
+        scheduleDrain(subscriber);
+    }
+
+    // 구독자 하나는 한 번에 한 sender 스레드만 보내도록 한다 (순서 보장)
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {  // 종료 중
+            subscriber.draining.set(false);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Frame frame;
+            while (!subscriber.closed.get() && (frame = subscriber.buffer.poll()) != null) {
+                send(subscriber, frame);
+            }
+            if (subscriber.closed.get() && subscriber.completeRequested.compareAndSet(true, false)) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {  // 클라이언트가 연결을 끊은 경우
+            unsubscribe(subscriber);
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // 보내는 동안 들어온 프레임이나 끊기 요청
+        if ((!subscriber.closed.get() && !subscriber.buffer.isEmpty()) || subscriber.completeRequested.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Frame frame) throws IOException {
+        subscriber.beginSend();
+        sending.add(subscriber);
+        try {
+            subscriber.emitter.send(frame.toEvent());
+        } finally {
+            sending.remove(subscriber);
+            if (subscriber.endSend()) {  // 막혔던 전송이 (보통 소켓 쓰기 타임아웃으로) 끝남
+                stalledSends.decrementAndGet();
+                resizeSender();
+            }
+        }
+    }
+
+    // == 막힌 전송 == //
+
+    private void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            if (subscriber.markStalled(now, sendTimeoutNanos)) {
+                stalledCounter.increment();
+                log.debug("전송이 멈춘 구독자의 연결을 끊습니다. postId: {}", subscriber.postId);
+                unsubscribe(subscriber);  // complete 는 막힌 전송과 같은 락을 잡으므로 부르지 않는다
+                stalledSends.incrementAndGet();
+                resizeSender();
+            }
+        }
+    }
+
+    private synchronized void resizeSender() {
+        sender.setCorePoolSize(senderThreads + Math.min(stalledSends.get(), maxStalledSends));
+    }
+
+    private void sendHeartbeats() {
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> enqueue(subscriber, HEARTBEAT)));
+    }
+
+    // complete 는 전송 중인 스레드와 같은 락을 잡으므로, 그 구독자의 sender 차례에 보낸다 (publish 하는 스레드가 기다리지 않음)
+    private void close(Subscriber subscriber) {
+        unsubscribe(subscriber);
+        subscriber.completeRequested.set(true);
+        scheduleDrain(subscriber);
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        subscribersByPost.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+        subscriber.buffer.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdownNow();
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completeRequested = new AtomicBoolean();
+
+        // 전송 상태는 sender 스레드와 확인 스레드가 함께 보므로 this 로 묶는다
+        private long sendStartedNanos;  // 0 이면 보내는 중이 아님
+        private boolean stalled;
+
+        private Subscriber(Long postId, SseEmitter emitter, BlockingQueue<Frame> buffer) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private synchronized void beginSend() {
+            sendStartedNanos = System.nanoTime();
+        }
+
+        // 막혔던 전송이 끝났으면 true
+        private synchronized boolean endSend() {
+            sendStartedNanos = 0;
+            boolean wasStalled = stalled;
+            stalled = false;
+            return wasStalled;
+        }
+
+        // 보내는 중인 전송이 timeout 을 넘겼으면 막힌 것으로 표시하고 true
+        private synchronized boolean markStalled(long now, long timeoutNanos) {
+            if (stalled || sendStartedNanos == 0 || now - sendStartedNanos < timeoutNanos) {
+                return false;
+            }
+            stalled = true;
+            return true;
+        }
+    }
+
+    /**
+     * SseEventBuilder 는 build 할 때 내용이 바뀌어서 여러 구독자가 함께 쓸 수 없으므로, 보낼 때마다 새로 만든다.
+     * name 이 없으면 주석 프레임(heartbeat 등)
+     */
+    private record Frame(String name, String id, Object data) {
+
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment(String.valueOf(data));
+            }
+            return SseEmitter.event().name(name).id(id).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package toyproject.noticeBoard.domain.comment.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.noticeBoard.domain.comment.dto.CommentChangedEvent;
+
+/**
+ * 커밋된 댓글 변경만 SSE 구독자에게 전달한다. (롤백된 댓글은 보내지 않음)
+ * 트랜잭션 밖에서 발행된 이벤트(CommentIngestionQueue 는 커밋 후 발행)도 받는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CommentStreamListener {
+
+    private final CommentStreamBroadcaster broadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        broadcaster.publish(event);  // 구독자가 없는 게시글이면 바로 돌아온다
+    }
+}
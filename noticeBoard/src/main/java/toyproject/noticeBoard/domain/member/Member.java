@@ -13,7 +13,7 @@ import java.util.List;
 
 import static javax.persistence.CascadeType.ALL;
 
-@Table(name = "Member")
+@Table(name = "Member")  // 비밀번호, 리프레시 토큰이 있으므로 2차 캐시에 두지 않음
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -21,8 +21,10 @@ import static javax.persistence.CascadeType.ALL;
 @Builder
 public class Member extends BaseTimeEntity {
 
+    // IDENTITY 는 INSERT 배치가 꺼지므로 pooled-lo 시퀀스로 id 를 미리 할당한다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "member_seq", allocationSize = 50)
     @Column(name = "member_id")
     private Long id;  // primary key
 
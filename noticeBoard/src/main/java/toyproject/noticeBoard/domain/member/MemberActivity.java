@@ -0,0 +1,49 @@
+package toyproject.noticeBoard.domain.member;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 회원별 활동 카운터 (프로필의 게시글 수, 댓글 수, 마지막 활동 시간)
+ * Member.postList, commentList 를 불러오지 않고 이 한 행만 읽는다.
+ * 쓰기 경로에서 MemberActivityRecorder 가 변화량을 모아서 주기적으로 더하고, 어긋난 값은 MemberActivityRecountJob 이 다시 센다.
+ */
+@Table(name = "MEMBER_ACTIVITY")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class MemberActivity {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;  // 회원과 같은 id
+
+    private long postCount;  // 작성한 게시글 수
+
+    private long commentCount;  // 작성한 댓글 수 (삭제된 댓글 제외)
+
+    private LocalDateTime lastActivityAt;  // 마지막으로 글을 쓰거나 지운 시간
+
+    public MemberActivity(Long memberId, long postCount, long commentCount, LocalDateTime lastActivityAt) {
+        this.memberId = memberId;
+        this.postCount = postCount;
+        this.commentCount = commentCount;
+        this.lastActivityAt = lastActivityAt;
+    }
+
+    // == 다시 세기 == //
+    public void recount(long postCount, long commentCount, LocalDateTime lastActivityAt) {
+        this.postCount = postCount;
+        this.commentCount = commentCount;
+        if (lastActivityAt != null && (this.lastActivityAt == null || this.lastActivityAt.isBefore(lastActivityAt))) {
+            this.lastActivityAt = lastActivityAt;
+        }
+    }
+}
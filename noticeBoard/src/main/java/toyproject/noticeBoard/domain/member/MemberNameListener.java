@@ -0,0 +1,59 @@
+package toyproject.noticeBoard.domain.member;
+
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import toyproject.noticeBoard.domain.member.service.MemberAvailabilityService;
+
+import java.util.Objects;
+
+/**
+ * 가입하거나 아이디/닉네임을 바꾸면 아이디/닉네임 블룸 필터에 넣는다.
+ * 커밋 전에 넣으므로 롤백되면 필터에만 남지만, 블룸 필터는 오탐만 늘어날 뿐 틀린 답을 주지 않는다.
+ *
+ * 로그인할 때마다 리프레시 토큰이 바뀌어 UPDATE 가 나가므로, 수정 전후 값을 비교해서 아이디나 닉네임이 바뀐 경우만 넣는다.
+ * SessionFactory 를 만드는 중에 등록되므로 서비스는 나중에 꺼낸다.
+ */
+public class MemberNameListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private final ObjectProvider<MemberAvailabilityService> memberAvailabilityService;
+
+    public MemberNameListener(ObjectProvider<MemberAvailabilityService> memberAvailabilityService) {
+        this.memberAvailabilityService = memberAvailabilityService;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Member member) {
+            memberAvailabilityService.getObject().remember(member.getUsername(), member.getNickname());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Member member) {
+            String username = changed(event, "username") ? member.getUsername() : null;
+            String nickname = changed(event, "nickname") ? member.getNickname() : null;
+            if (username != null || nickname != null) {
+                memberAvailabilityService.getObject().remember(username, nickname);
+            }
+        }
+    }
+
+    // 수정 전 값을 모르면(분리된 엔티티를 merge 없이 update 한 경우 등) 바뀐 것으로 본다
+    private boolean changed(PostUpdateEvent event, String property) {
+        if (event.getOldState() == null) {
+            return true;
+        }
+        int index = event.getPersister().getEntityMetamodel().getPropertyIndex(property);
+        return !Objects.equals(event.getOldState()[index], event.getState()[index]);
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package toyproject.noticeBoard.domain.member.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import toyproject.noticeBoard.domain.member.dto.MemberStats;
+import toyproject.noticeBoard.domain.member.service.MemberActivityService;
+
+@RestController
+@RequiredArgsConstructor
+public class MemberActivityController {
+
+    private final MemberActivityService memberActivityService;
+
+    // 프로필의 게시글 수, 댓글 수, 마지막 활동 시간
+    @GetMapping("/members/{memberId}/stats")
+    public MemberStats stats(@PathVariable Long memberId) {
+        return memberActivityService.findStats(memberId);
+    }
+}
@@ -0,0 +1,22 @@
+package toyproject.noticeBoard.domain.member.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import toyproject.noticeBoard.domain.member.dto.MemberAvailability;
+import toyproject.noticeBoard.domain.member.service.MemberAvailabilityService;
+
+@RestController
+@RequiredArgsConstructor
+public class MemberAvailabilityController {
+
+    private final MemberAvailabilityService memberAvailabilityService;
+
+    // 회원가입 화면에서 입력할 때마다 아이디, 닉네임 사용 가능 여부 확인
+    @GetMapping("/singUp/availability")
+    public MemberAvailability availability(@RequestParam(required = false) String username,
+                                           @RequestParam(required = false) String nickname) {
+        return memberAvailabilityService.check(username, nickname);
+    }
+}
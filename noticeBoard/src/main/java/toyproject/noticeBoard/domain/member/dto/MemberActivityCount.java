@@ -0,0 +1,9 @@
+package toyproject.noticeBoard.domain.member.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원별로 묶어서 센 게시글/댓글 수와 가장 최근 작성 시간
+ */
+public record MemberActivityCount(Long memberId, Long count, LocalDateTime lastCreatedAt) {
+}
@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.member.dto;
+
+/**
+ * 아이디, 닉네임 사용 가능 여부 (확인하지 않은 값은 null)
+ */
+public record MemberAvailability(Boolean usernameAvailable, Boolean nicknameAvailable) {
+}
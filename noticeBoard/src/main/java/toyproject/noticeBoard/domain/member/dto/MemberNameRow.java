@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.member.dto;
+
+/**
+ * 블룸 필터를 채우거나 중복을 확인할 때 필요한 값만 가져온 것
+ */
+public record MemberNameRow(Long id, String username, String nickname) {
+}
@@ -0,0 +1,19 @@
+package toyproject.noticeBoard.domain.member.dto;
+
+import toyproject.noticeBoard.domain.member.MemberActivity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로필에 보여줄 회원 활동 통계
+ */
+public record MemberStats(Long memberId, long postCount, long commentCount, LocalDateTime lastActivityAt) {
+
+    public static MemberStats of(MemberActivity activity) {
+        return new MemberStats(activity.getMemberId(), activity.getPostCount(), activity.getCommentCount(), activity.getLastActivityAt());
+    }
+
+    public static MemberStats empty(Long memberId) {  // 아직 활동이 없는 회원
+        return new MemberStats(memberId, 0, 0, null);
+    }
+}
@@ -0,0 +1,24 @@
+package toyproject.noticeBoard.domain.member.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toyproject.noticeBoard.domain.member.MemberActivity;
+
+import java.time.LocalDateTime;
+
+public interface MemberActivityRepository extends JpaRepository<MemberActivity, Long> {
+
+    // 모아둔 변화량을 행을 읽지 않고 더한다 (행이 없으면 0)
+    @Modifying
+    @Query("update MemberActivity a set a.postCount = a.postCount + :posts, a.commentCount = a.commentCount + :comments, " +
+            "a.lastActivityAt = case when a.lastActivityAt is null or a.lastActivityAt < :activityAt then :activityAt else a.lastActivityAt end " +
+            "where a.memberId = :memberId")
+    int applyDelta(@Param("memberId") Long memberId, @Param("posts") long posts, @Param("comments") long comments,
+                   @Param("activityAt") LocalDateTime activityAt);
+
+    @Modifying
+    @Query("delete from MemberActivity a where a.memberId = :memberId")
+    int bulkDeleteByMemberId(@Param("memberId") Long memberId);  // 회원탈퇴
+}
@@ -1,16 +1,49 @@
 package toyproject.noticeBoard.domain.member.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.dto.MemberNameRow;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByUsername(String username);  // 아이디 찾기
 
+    @Query("select m.id from Member m where m.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);  // 엔티티를 불러오지 않고 id 만
+
     boolean existsByUsername(String username);  // 아이디 중복 검사
 
     boolean existsByNickname(String nickname);  // 닉네임 중복 검사
 
+    // 아이디, 닉네임 중복을 쿼리 한 번으로 검사 (확인하지 않을 값은 null)
+    @Query("select new toyproject.noticeBoard.domain.member.dto.MemberNameRow(m.id, m.username, m.nickname) from Member m " +
+            "where m.username = :username or m.nickname = :nickname")
+    List<MemberNameRow> findNameRowsMatching(@Param("username") String username, @Param("nickname") String nickname);
+
+    // == id 범위를 나눠서 병렬로 읽기 (블룸 필터 채우기, 활동 카운터 다시 세기) == //
+    @Query("select min(m.id) from Member m")
+    Long findMinId();
+
+    @Query("select max(m.id) from Member m")
+    Long findMaxId();
+
+    @Query("select m.id from Member m where m.id > :afterId and m.id <= :lastId order by m.id")
+    List<Long> findIdsBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("select new toyproject.noticeBoard.domain.member.dto.MemberNameRow(m.id, m.username, m.nickname) from Member m " +
+            "where m.id > :afterId and m.id <= :lastId order by m.id")
+    List<MemberNameRow> findNameRowsBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId, Pageable pageable);
+
     Optional<Member> findByRefreshToken(String refreshToken);
+
+    // 게시글, 댓글 cascade 를 타지 않고 회원만 삭제 (회원탈퇴 마지막 단계)
+    @Modifying
+    @Query("delete from Member m where m.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
 }
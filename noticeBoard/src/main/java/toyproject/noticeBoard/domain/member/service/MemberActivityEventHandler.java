@@ -0,0 +1,36 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.event.CommentRemoved;
+import toyproject.noticeBoard.domain.post.event.PostCreated;
+import toyproject.noticeBoard.domain.post.event.PostRemoved;
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+import toyproject.noticeBoard.global.outbox.DomainEventHandler;
+
+/**
+ * 커밋된 게시글/댓글 이벤트로 회원 활동 카운터를 바꾼다.
+ * 아웃박스를 거치므로 서버가 재시작되어도 커밋된 쓰기의 변화량은 빠지지 않는다. (두 번 전달되어 어긋난 값은 다시 세기로 맞춤)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberActivityEventHandler implements DomainEventHandler {
+
+    private final MemberActivityRecorder memberActivityRecorder;
+
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof PostCreated created) {
+            memberActivityRecorder.recordPost(created.writerId(), 1, created.createdDate());
+        } else if (event instanceof PostRemoved removed) {
+            memberActivityRecorder.recordPost(removed.writerId(), -1, removed.removedDate());
+            removed.removedCommentsByWriter().forEach((writerId, count) ->
+                    memberActivityRecorder.recordComment(writerId, -count, removed.removedDate()));
+        } else if (event instanceof CommentAdded added) {
+            memberActivityRecorder.recordComment(added.writerId(), 1, added.createdDate());
+        } else if (event instanceof CommentRemoved removed) {
+            memberActivityRecorder.recordComment(removed.writerId(), -1, removed.removedDate());
+        }
+    }
+}
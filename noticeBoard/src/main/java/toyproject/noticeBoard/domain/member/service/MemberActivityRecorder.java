@@ -0,0 +1,137 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.member.MemberActivity;
+import toyproject.noticeBoard.domain.member.repository.MemberActivityRepository;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회원 활동 카운터 변화량 기록
+ * 글을 쓸 때마다 MEMBER_ACTIVITY 행을 UPDATE 하면 같은 회원의 요청끼리 행 락을 기다리므로,
+ * 커밋된 변화량을 회원별로 메모리에 모아두고 flush-interval-ms 마다 회원당 UPDATE 한 번으로 더한다.
+ *
+ * 쓰기 경로는 아웃박스에 이벤트만 남기고, MemberActivityEventHandler 가 커밋된 이벤트를 받아서 기록한다.
+ * 롤백된 쓰기는 세지 않도록 트랜잭션 안에서 기록하면 커밋된 뒤에 모은다.
+ * 더하기에 실패하면 변화량을 다시 넣어두고 다음에 더한다. 프로필의 숫자는 최대 flush-interval-ms 만큼 늦다.
+ */
+@Component
+@Slf4j
+public class MemberActivityRecorder {
+
+    private final MemberActivityRepository memberActivityRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, ActivityDelta> deltas = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+
+    public MemberActivityRecorder(MemberActivityRepository memberActivityRepository,
+                                  EntityManager em,
+                                  TransactionTemplate transactionTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.memberActivityRepository = memberActivityRepository;
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+
+        meterRegistry.gaugeMapSize("member.activity.pending", deltas);
+        this.flushedCounter = Counter.builder("member.activity.flushed")
+                .description("MEMBER_ACTIVITY 에 더한 회원 수")
+                .register(meterRegistry);
+    }
+
+    // activityAt 은 글을 쓰거나 지운 시간 (이벤트가 늦게 전달되어도 마지막 활동 시간이 밀리지 않도록)
+    public void recordPost(Long memberId, long delta, LocalDateTime activityAt) {
+        record(memberId, delta, 0, activityAt);
+    }
+
+    public void recordComment(Long memberId, long delta, LocalDateTime activityAt) {
+        record(memberId, 0, delta, activityAt);
+    }
+
+    private void record(Long memberId, long posts, long comments, LocalDateTime activityAt) {
+        if (memberId == null) {  // 작성자가 없는 글
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            merge(memberId, posts, comments, activityAt);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                merge(memberId, posts, comments, activityAt);
+            }
+        });
+    }
+
+    // compute 는 키마다 원자적이므로, flush 가 꺼내간 뒤에 들어온 변화량은 새 ActivityDelta 에 쌓인다
+    private void merge(Long memberId, long posts, long comments, LocalDateTime activityAt) {
+        deltas.compute(memberId, (id, delta) -> (delta == null ? new ActivityDelta() : delta).add(posts, comments, activityAt));
+    }
+
+    @Scheduled(fixedDelayString = "${member.activity.flush-interval-ms:1000}")
+    public void flush() {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, ActivityDelta> batch = new HashMap<>();
+        for (Long memberId : deltas.keySet()) {
+            ActivityDelta delta = deltas.remove(memberId);
+            if (delta != null) {
+                batch.put(memberId, delta);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::apply));
+            flushedCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("회원 활동 카운터를 더하지 못해서 다음에 다시 더합니다. 회원 수: {}", batch.size(), e);
+            batch.forEach((memberId, delta) -> merge(memberId, delta.posts, delta.comments, delta.lastActivityAt));
+        }
+    }
+
+    private void apply(Long memberId, ActivityDelta delta) {
+        if (memberActivityRepository.applyDelta(memberId, delta.posts, delta.comments, delta.lastActivityAt) == 0) {
+            // 처음 활동하는 회원 (다시 세기 전이라 음수가 되는 경우는 0 부터 시작)
+            em.persist(new MemberActivity(memberId, Math.max(delta.posts, 0), Math.max(delta.comments, 0), delta.lastActivityAt));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class ActivityDelta {
+        private long posts;
+        private long comments;
+        private LocalDateTime lastActivityAt;
+
+        private ActivityDelta add(long posts, long comments, LocalDateTime activityAt) {
+            this.posts += posts;
+            this.comments += comments;
+            if (lastActivityAt == null || lastActivityAt.isBefore(activityAt)) {
+                lastActivityAt = activityAt;
+            }
+            return this;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.member.MemberActivity;
+import toyproject.noticeBoard.domain.member.dto.MemberActivityCount;
+import toyproject.noticeBoard.domain.member.repository.MemberActivityRepository;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 회원 활동 카운터 다시 세기 (기존 데이터 채우기, 어긋난 값 바로잡기)
+ * 회원 id 범위를 threads 개로 나눠서 병렬로 처리하고, 범위 안에서는 chunk-size 명씩 짧은 트랜잭션으로
+ * [회원 id 조회 -> 게시글/댓글 수 GROUP BY -> 활동 행 덮어쓰기] 를 반복한다.
+ *
+ * 다시 세는 동안 들어온 쓰기는 MemberActivityRecorder 가 따로 더하므로 조금 어긋날 수 있다. 한가한 시간에 실행한다.
+ */
+@Component
+@Slf4j
+public class MemberActivityRecountJob {
+
+    @Value("${member.activity.recount.threads:4}")
+    private int threads;
+    @Value("${member.activity.recount.chunk-size:500}")
+    private int chunkSize;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MemberActivityRepository memberActivityRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    public MemberActivityRecountJob(MemberRepository memberRepository,
+                                    PostRepository postRepository,
+                                    CommentRepository commentRepository,
+                                    MemberActivityRepository memberActivityRepository,
+                                    EntityManager em,
+                                    TransactionTemplate transactionTemplate) {
+        this.memberRepository = memberRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.memberActivityRepository = memberActivityRepository;
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 모든 회원의 활동 카운터를 다시 세고, 처리한 회원 수를 돌려준다.
+     */
+    public long recount() {
+        long start = System.currentTimeMillis();
+        Long minId = memberRepository.findMinId();
+        Long maxId = memberRepository.findMaxId();
+        if (minId == null) {
+            return 0;
+        }
+
+        AtomicLong recounted = new AtomicLong();
+        long rangeSize = (maxId - minId) / threads + 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Void>> ranges = new ArrayList<>();
+            for (long afterId = minId - 1; afterId < maxId; afterId += rangeSize) {
+                long from = afterId;
+                long to = Math.min(afterId + rangeSize, maxId);
+                ranges.add(CompletableFuture.runAsync(() -> recountRange(from, to, recounted), executor));
+            }
+            CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("회원 활동 카운터를 다시 셌습니다. 회원: {}, {} ms", recounted.get(), System.currentTimeMillis() - start);
+        return recounted.get();
+    }
+
+    private void recountRange(long afterId, long lastId, AtomicLong recounted) {
+        long cursor = afterId;
+        while (true) {
+            long chunkAfterId = cursor;
+            List<Long> memberIds = transactionTemplate.execute(status -> {
+                List<Long> ids = memberRepository.findIdsBetween(chunkAfterId, lastId, PageRequest.of(0, chunkSize));
+                if (!ids.isEmpty()) {
+                    recountChunk(chunkAfterId, ids);
+                }
+                return ids;
+            });
+
+            recounted.addAndGet(memberIds.size());
+            if (memberIds.size() < chunkSize) {
+                return;
+            }
+            cursor = memberIds.get(memberIds.size() - 1);
+        }
+    }
+
+    private void recountChunk(long afterId, List<Long> memberIds) {
+        Long chunkLastId = memberIds.get(memberIds.size() - 1);
+        Map<Long, MemberActivityCount> posts = byMemberId(postRepository.countByWriterBetween(afterId, chunkLastId));
+        Map<Long, MemberActivityCount> comments = byMemberId(commentRepository.countByWriterBetween(afterId, chunkLastId));
+        Map<Long, MemberActivity> activities = memberActivityRepository.findAllById(memberIds).stream()
+                .collect(Collectors.toMap(MemberActivity::getMemberId, Function.identity()));
+
+        for (Long memberId : memberIds) {
+            MemberActivityCount post = posts.get(memberId);
+            MemberActivityCount comment = comments.get(memberId);
+            long postCount = post == null ? 0 : post.count();
+            long commentCount = comment == null ? 0 : comment.count();
+            LocalDateTime lastActivityAt = latest(post, comment);
+
+            MemberActivity activity = activities.get(memberId);
+            if (activity == null) {
+                em.persist(new MemberActivity(memberId, postCount, commentCount, lastActivityAt));
+            } else {
+                activity.recount(postCount, commentCount, lastActivityAt);
+            }
+        }
+    }
+
+    private Map<Long, MemberActivityCount> byMemberId(List<MemberActivityCount> counts) {
+        return counts.stream().collect(Collectors.toMap(MemberActivityCount::memberId, Function.identity()));
+    }
+
+    private LocalDateTime latest(MemberActivityCount post, MemberActivityCount comment) {
+        LocalDateTime postAt = post == null ? null : post.lastCreatedAt();
+        LocalDateTime commentAt = comment == null ? null : comment.lastCreatedAt();
+        if (postAt == null) {
+            return commentAt;
+        }
+        return commentAt == null || postAt.isAfter(commentAt) ? postAt : commentAt;
+    }
+}
@@ -0,0 +1,23 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카운터를 처음 배포할 때 기존 데이터를 채우기 위해 member.activity.recount-on-startup=true 로 한 번 띄운다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.activity.recount-on-startup", havingValue = "true")
+public class MemberActivityRecountRunner implements ApplicationRunner {
+
+    private final MemberActivityRecountJob memberActivityRecountJob;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        memberActivityRecountJob.recount();
+    }
+}
@@ -0,0 +1,8 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import toyproject.noticeBoard.domain.member.dto.MemberStats;
+
+public interface MemberActivityService {
+
+    MemberStats findStats(Long memberId);  // MEMBER_ACTIVITY 한 행만 읽는다 (활동이 없으면 0)
+}
@@ -0,0 +1,22 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.member.dto.MemberStats;
+import toyproject.noticeBoard.domain.member.repository.MemberActivityRepository;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberActivityServiceImpl implements MemberActivityService {
+
+    private final MemberActivityRepository memberActivityRepository;
+
+    @Override
+    public MemberStats findStats(Long memberId) {
+        return memberActivityRepository.findById(memberId)
+                .map(MemberStats::of)
+                .orElseGet(() -> MemberStats.empty(memberId));
+    }
+}
@@ -0,0 +1,14 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import toyproject.noticeBoard.domain.member.dto.MemberAvailability;
+
+public interface MemberAvailabilityService {
+
+    /**
+     * 아이디, 닉네임을 사용할 수 있는지 확인한다. (null 인 값은 확인하지 않음)
+     * 블룸 필터에 없으면 DB 를 조회하지 않고, 있을 수도 있는 값만 쿼리 한 번으로 확인한다.
+     */
+    MemberAvailability check(String username, String nickname);
+
+    void remember(String username, String nickname);  // 새로 가입하거나 닉네임을 바꾼 경우 필터에 추가
+}
@@ -0,0 +1,158 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import toyproject.noticeBoard.domain.member.dto.MemberAvailability;
+import toyproject.noticeBoard.domain.member.dto.MemberNameRow;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.global.bloom.BloomFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 아이디, 닉네임 블룸 필터
+ * 필터가 채워지기 전(ready = false)에는 누락이 있을 수 있으므로 항상 DB 로 확인한다.
+ * 채우는 동안 가입한 회원도 MemberNameListener 가 넣어주므로, 채우기가 끝난 뒤에는 누락이 없다.
+ */
+@Service
+@Slf4j
+public class MemberAvailabilityServiceImpl implements MemberAvailabilityService {
+
+    private final int warmThreads;
+    private final int warmChunkSize;
+
+    private final MemberRepository memberRepository;
+    private final BloomFilter usernameFilter;
+    private final BloomFilter nicknameFilter;
+    private volatile boolean ready = false;
+
+    // == 메트릭 == //
+    private final Counter bloomAnsweredCounter;
+    private final Counter databaseCheckedCounter;
+    private final Counter falsePositiveCounter;
+
+    public MemberAvailabilityServiceImpl(@Value("${member.availability.expected-members:1000000}") long expectedMembers,
+                                         @Value("${member.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                         @Value("${member.availability.warm-threads:4}") int warmThreads,
+                                         @Value("${member.availability.warm-chunk-size:5000}") int warmChunkSize,
+                                         MemberRepository memberRepository,
+                                         MeterRegistry meterRegistry) {
+        this.warmThreads = warmThreads;
+        this.warmChunkSize = warmChunkSize;
+        this.memberRepository = memberRepository;
+        this.usernameFilter = new BloomFilter(expectedMembers, falsePositiveRate);
+        this.nicknameFilter = new BloomFilter(expectedMembers, falsePositiveRate);
+
+        this.bloomAnsweredCounter = Counter.builder("member.availability.checks").tag("source", "bloom").register(meterRegistry);
+        this.databaseCheckedCounter = Counter.builder("member.availability.checks").tag("source", "db").register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("member.availability.false.positive")
+                .description("필터는 있을 수도 있다고 했지만 DB 에 없던 값의 수")
+                .register(meterRegistry);
+        registerFilterGauges(meterRegistry, "username", usernameFilter);
+        registerFilterGauges(meterRegistry, "nickname", nicknameFilter);
+    }
+
+    @Override
+    public MemberAvailability check(String username, String nickname) {
+        boolean usernameMaybeTaken = username != null && (!ready || usernameFilter.mightContain(username));
+        boolean nicknameMaybeTaken = nickname != null && (!ready || nicknameFilter.mightContain(nickname));
+
+        if (!usernameMaybeTaken && !nicknameMaybeTaken) {  // 확실히 없는 값은 DB 를 조회하지 않는다
+            bloomAnsweredCounter.increment();
+            return new MemberAvailability(username == null ? null : true, nickname == null ? null : true);
+        }
+
+        databaseCheckedCounter.increment();
+        List<MemberNameRow> rows = memberRepository.findNameRowsMatching(
+                usernameMaybeTaken ? username : null, nicknameMaybeTaken ? nickname : null);
+        boolean usernameTaken = usernameMaybeTaken && rows.stream().anyMatch(row -> username.equals(row.username()));
+        boolean nicknameTaken = nicknameMaybeTaken && rows.stream().anyMatch(row -> nickname.equals(row.nickname()));
+
+        if (ready) {
+            if (usernameMaybeTaken && !usernameTaken) {
+                falsePositiveCounter.increment();
+            }
+            if (nicknameMaybeTaken && !nicknameTaken) {
+                falsePositiveCounter.increment();
+            }
+        }
+        return new MemberAvailability(username == null ? null : !usernameTaken, nickname == null ? null : !nicknameTaken);
+    }
+
+    @Override
+    public void remember(String username, String nickname) {
+        if (username != null) {
+            usernameFilter.put(username);
+        }
+        if (nickname != null) {
+            nicknameFilter.put(nickname);
+        }
+    }
+
+    /**
+     * 시작할 때 id 범위를 warm-threads 개로 나눠서 병렬로 필터를 채운다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long start = System.currentTimeMillis();
+        Long minId = memberRepository.findMinId();
+        Long maxId = memberRepository.findMaxId();
+
+        if (minId != null) {
+            long rangeSize = (maxId - minId) / warmThreads + 1;
+            ExecutorService executor = Executors.newFixedThreadPool(warmThreads);
+            try {
+                List<CompletableFuture<Void>> ranges = new ArrayList<>();
+                for (long afterId = minId - 1; afterId < maxId; afterId += rangeSize) {
+                    long from = afterId;
+                    long to = Math.min(afterId + rangeSize, maxId);
+                    ranges.add(CompletableFuture.runAsync(() -> warmRange(from, to), executor));
+                }
+                CompletableFuture.allOf(ranges.toArray(CompletableFuture[]::new)).join();
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        ready = true;
+        log.info("아이디/닉네임 블룸 필터를 채웠습니다. 회원: {}, {} ms, 메모리: {} KB, 예상 오탐률: 아이디 {}, 닉네임 {}",
+                usernameFilter.insertions(), System.currentTimeMillis() - start,
+                (usernameFilter.memoryBytes() + nicknameFilter.memoryBytes()) / 1024,
+                String.format("%.5f", usernameFilter.estimatedFalsePositiveRate()),
+                String.format("%.5f", nicknameFilter.estimatedFalsePositiveRate()));
+    }
+
+    private void warmRange(long afterId, long lastId) {
+        long cursor = afterId;
+        while (true) {
+            List<MemberNameRow> rows = memberRepository.findNameRowsBetween(cursor, lastId, PageRequest.of(0, warmChunkSize));
+            rows.forEach(row -> remember(row.username(), row.nickname()));
+
+            if (rows.size() < warmChunkSize) {
+                return;
+            }
+            cursor = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    private void registerFilterGauges(MeterRegistry meterRegistry, String name, BloomFilter filter) {
+        Gauge.builder("member.bloom.false.positive.rate", filter, BloomFilter::estimatedFalsePositiveRate)
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("member.bloom.memory", filter, BloomFilter::memoryBytes)
+                .tag("filter", name)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,127 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.dto.CommentRemovalTarget;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.member.repository.MemberActivityRepository;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.notification.repository.NotificationRepository;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * 회원탈퇴 작업
+ * Member 의 cascade(postList, commentList) 를 타면 모든 게시글과 댓글을 영속성 컨텍스트에 올린 뒤 한 건씩 지우게 되므로,
+ * id 만 청크 단위로 조회해서 DELETE ... WHERE id IN (...) 으로 지운다. 청크마다 트랜잭션을 짧게 끊는다.
+ *
+ * 삭제 순서
+ * 1. 회원 게시글에 달린 모든 댓글
+ * 2. 회원이 작성한 댓글과 그 아래의 모든 대댓글 (회원 댓글을 id 순으로 청크씩 읽고, 댓글마다 경로 접두사로 서브트리를 지움)
+ * 3. 회원이 작성한 게시글
+ * 4. 회원, 회원 활동 카운터, 알림함
+ * 댓글은 대댓글의 깊이와 상관없이 지울 수 있도록, 청크를 지우기 전에 청크를 부모로 가진 댓글의 연결을 끊는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MemberWithdrawalJob {
+
+    @Value("${member.withdrawal.chunk-size:500}")
+    private int chunkSize;
+
+    private final MemberRepository memberRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MemberActivityRepository memberActivityRepository;
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Async
+    public void runAsync(WithdrawalProgress progress) {
+        withdraw(progress);
+    }
+
+    public void withdraw(WithdrawalProgress progress) {
+        Long memberId = progress.getMemberId();
+        progress.start();
+        log.info("회원탈퇴를 시작합니다. memberId: {}", memberId);
+
+        try {
+            deleteInChunks(pageable -> commentRepository.findCommentIdsOnPostsOf(memberId, pageable),
+                    this::deleteComments, progress::addDeletedComments);
+            deleteSubtreesOfCommentsBy(memberId, progress);
+            deleteInChunks(pageable -> postRepository.findIdsByWriterId(memberId, pageable),
+                    postRepository::bulkDeleteByIds, progress::addDeletedPosts);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                memberActivityRepository.bulkDeleteByMemberId(memberId);
+                notificationRepository.bulkDeleteByRecipientId(memberId);
+                memberRepository.bulkDeleteById(memberId);
+            });
+
+            progress.complete();
+            log.info("회원탈퇴를 완료했습니다. memberId: {}, 댓글: {}, 게시글: {}",
+                    memberId, progress.getDeletedCommentCount(), progress.getDeletedPostCount());
+        } catch (RuntimeException e) {
+            // 이미 커밋된 청크는 그대로 두고, 다시 요청하면 남은 것부터 지운다
+            progress.fail(e.getMessage());
+            log.error("회원탈퇴에 실패했습니다. memberId: {}", memberId, e);
+        }
+    }
+
+    private int deleteComments(List<Long> ids) {
+        commentRepository.bulkUnlinkChildrenOf(ids);
+        return commentRepository.bulkDeleteByIds(ids);
+    }
+
+    /*
+     * 회원 댓글을 id 키셋으로 청크씩 읽고, 댓글마다 경로 접두사(path like :path%, path 인덱스 범위)로 서브트리를 지운다.
+     * 앞에서 이미 지워진 회원 댓글(자기 댓글 아래의 자기 대댓글)은 지울 행이 없어서 그냥 넘어간다.
+     */
+    private void deleteSubtreesOfCommentsBy(Long memberId, WithdrawalProgress progress) {
+        Pageable chunk = PageRequest.of(0, chunkSize);
+        long afterId = 0L;
+
+        while (true) {
+            List<CommentRemovalTarget> comments = commentRepository.findPathsByWriterIdAfter(memberId, afterId, chunk);
+            if (comments.isEmpty()) {
+                return;
+            }
+
+            Integer deleted = transactionTemplate.execute(status -> comments.stream().mapToInt(comment -> {
+                commentRepository.bulkUnlinkByPathPrefix(comment.path());
+                return commentRepository.bulkDeleteByPathPrefix(comment.path());
+            }).sum());
+            progress.addDeletedComments(deleted == null ? 0 : deleted);
+            afterId = comments.get(comments.size() - 1).id();
+        }
+    }
+
+    // 지울 id 가 없을 때까지 [id 조회 -> 일괄 삭제] 를 청크마다 별도의 트랜잭션으로 반복
+    private void deleteInChunks(Function<Pageable, List<Long>> idFinder, ToIntFunction<List<Long>> bulkDelete, Consumer<Long> onDeleted) {
+        Pageable firstChunk = PageRequest.of(0, chunkSize);
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = idFinder.apply(firstChunk);  // 지운 만큼 다음 청크가 앞으로 당겨지므로 항상 첫 페이지
+                return ids.isEmpty() ? 0 : bulkDelete.applyAsInt(ids);
+            });
+
+            if (deleted == null || deleted == 0) {
+                return;
+            }
+            onDeleted.accept(deleted.longValue());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import java.util.Optional;
+
+public interface MemberWithdrawalService {
+
+    /**
+     * 회원탈퇴를 요청한다. 삭제는 백그라운드에서 청크 단위로 진행되고, 진행 상황을 바로 돌려준다.
+     * 이미 진행 중인 탈퇴가 있으면 그 진행 상황을 돌려준다.
+     */
+    WithdrawalProgress requestWithdrawal(Long memberId) throws Exception;
+
+    Optional<WithdrawalProgress> findProgress(Long memberId);
+}
@@ -0,0 +1,42 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@RequiredArgsConstructor
+public class MemberWithdrawalServiceImpl implements MemberWithdrawalService {
+
+    private final MemberRepository memberRepository;
+    private final MemberWithdrawalJob memberWithdrawalJob;
+
+    private final Map<Long, WithdrawalProgress> progressMap = new ConcurrentHashMap<>();
+
+    @Override
+    public WithdrawalProgress requestWithdrawal(Long memberId) throws Exception {
+        if (!memberRepository.existsById(memberId)) {
+            throw new Exception("회원이 없습니다.");
+        }
+
+        progressMap.values().removeIf(WithdrawalProgress::isFinished);  // 끝난 작업은 정리
+
+        WithdrawalProgress progress = new WithdrawalProgress(memberId);
+        WithdrawalProgress running = progressMap.putIfAbsent(memberId, progress);
+        if (running != null) {
+            return running;
+        }
+
+        memberWithdrawalJob.runAsync(progress);
+        return progress;
+    }
+
+    @Override
+    public Optional<WithdrawalProgress> findProgress(Long memberId) {
+        return Optional.ofNullable(progressMap.get(memberId));
+    }
+}
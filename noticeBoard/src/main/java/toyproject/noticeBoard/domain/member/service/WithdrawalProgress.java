@@ -0,0 +1,86 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원탈퇴 작업의 진행 상황
+ * 작업 스레드가 갱신하고, 조회는 다른 스레드에서 하므로 필드는 모두 스레드 안전하게 둔다.
+ */
+public class WithdrawalProgress {
+
+    public enum Status {
+        REQUESTED, RUNNING, COMPLETED, FAILED
+    }
+
+    private final Long memberId;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.REQUESTED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    private final AtomicLong deletedCommentCount = new AtomicLong();
+    private final AtomicLong deletedPostCount = new AtomicLong();
+
+    public WithdrawalProgress(Long memberId) {
+        this.memberId = memberId;
+    }
+
+    // == 상태 변경 (작업 스레드) == //
+    void start() {
+        this.status = Status.RUNNING;
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String failureMessage) {
+        this.failureMessage = failureMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    void addDeletedComments(long count) {
+        deletedCommentCount.addAndGet(count);
+    }
+
+    void addDeletedPosts(long count) {
+        deletedPostCount.addAndGet(count);
+    }
+
+    // == 조회 == //
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public LocalDateTime getRequestedAt() {
+        return requestedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public long getDeletedCommentCount() {
+        return deletedCommentCount.get();
+    }
+
+    public long getDeletedPostCount() {
+        return deletedPostCount.get();
+    }
+}
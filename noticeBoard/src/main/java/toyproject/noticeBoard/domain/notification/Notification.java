@@ -0,0 +1,59 @@
+package toyproject.noticeBoard.domain.notification;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 회원 알림함의 답글 알림
+ * 같은 회원에게 collapse-window-ms 안에 달린 답글은 알림 하나로 합치고, 마지막 답글과 답글 수만 남긴다.
+ * 회원과 댓글은 id 만 가지고 있다. (댓글이 지워져도 알림은 남음, 회원탈퇴 때 함께 지움)
+ */
+@Table(name = "NOTIFICATION", indexes = {
+        @Index(name = "idx_notification_recipient", columnList = "recipient_id, notification_id")  // 회원별 알림을 최신순으로 조회
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class Notification {
+
+    // 아웃박스 배치 하나의 답글로 여러 회원의 알림을 한 트랜잭션에 INSERT 하므로 묶이도록 시퀀스를 쓴다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq_generator")
+    @SequenceGenerator(name = "notification_seq_generator", sequenceName = "notification_seq", allocationSize = 50)
+    @Column(name = "notification_id")
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private Long recipientId;  // 답글이 달린 댓글의 작성자
+
+    private Long postId;  // 마지막 답글의 게시글
+
+    private Long commentId;  // 마지막 답글
+
+    private Long replierId;  // 마지막 답글 작성자
+
+    private int replyCount;  // 합쳐진 답글 수
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;  // 첫 답글 시간 (합치는 범위의 시작)
+
+    @Column(nullable = false)
+    private LocalDateTime lastReplyAt;
+
+    private LocalDateTime readAt;  // null 이면 읽지 않은 알림
+
+    public Notification(Long recipientId, Long postId, Long commentId, Long replierId, int replyCount,
+                        LocalDateTime createdDate, LocalDateTime lastReplyAt) {
+        this.recipientId = recipientId;
+        this.postId = postId;
+        this.commentId = commentId;
+        this.replierId = replierId;
+        this.replyCount = replyCount;
+        this.createdDate = createdDate;
+        this.lastReplyAt = lastReplyAt;
+    }
+}
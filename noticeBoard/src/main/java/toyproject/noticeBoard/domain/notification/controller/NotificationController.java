@@ -0,0 +1,43 @@
+package toyproject.noticeBoard.domain.notification.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import toyproject.noticeBoard.domain.notification.dto.NotificationSlice;
+import toyproject.noticeBoard.domain.notification.service.NotificationService;
+
+@RestController
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    // 로그인한 회원의 읽지 않은 알림 (최신순, 다음 페이지는 nextCursor 를 cursor 로)
+    @GetMapping("/notifications/unread")
+    public NotificationSlice unread(@AuthenticationPrincipal UserDetails user,
+                                    @RequestParam(required = false) Long cursor,
+                                    @RequestParam(defaultValue = "20") int size) {
+        return notificationService.findUnread(user.getUsername(), cursor, size);
+    }
+
+    @PostMapping("/notifications/{notificationId}/read")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void read(@AuthenticationPrincipal UserDetails user, @PathVariable Long notificationId) {
+        notificationService.markRead(user.getUsername(), notificationId);
+    }
+
+    // 없는 알림(다른 회원의 알림, 이미 읽은 알림)만 404
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public String notFound(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+}
@@ -0,0 +1,19 @@
+package toyproject.noticeBoard.domain.notification.dto;
+
+import java.util.List;
+
+/**
+ * 읽지 않은 알림 한 페이지 (최신순)
+ * 다음 페이지는 nextCursor(마지막 알림 id) 보다 오래된 알림이다. 다음 페이지가 없으면 nextCursor 는 null 이다.
+ */
+public record NotificationSlice(List<NotificationView> notifications, Long nextCursor, boolean hasNext) {
+
+    // size + 1 개를 조회해서 다음 페이지가 있는지 판단한다
+    public static NotificationSlice of(List<NotificationView> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<NotificationView> notifications = hasNext ? List.copyOf(rows.subList(0, size)) : rows;
+        Long nextCursor = hasNext ? notifications.get(size - 1).id() : null;
+
+        return new NotificationSlice(notifications, nextCursor, hasNext);
+    }
+}
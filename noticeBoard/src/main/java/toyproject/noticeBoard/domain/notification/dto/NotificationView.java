@@ -0,0 +1,18 @@
+package toyproject.noticeBoard.domain.notification.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 조회 응답 (마지막 답글 작성자의 닉네임은 탈퇴했으면 null)
+ */
+public record NotificationView(
+        Long id,
+        Long postId,
+        Long commentId,
+        Long replierId,
+        String replierNickname,
+        int replyCount,
+        LocalDateTime createdDate,
+        LocalDateTime lastReplyAt
+) {
+}
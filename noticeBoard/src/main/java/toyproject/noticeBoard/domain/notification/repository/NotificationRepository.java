@@ -0,0 +1,51 @@
+package toyproject.noticeBoard.domain.notification.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toyproject.noticeBoard.domain.notification.Notification;
+import toyproject.noticeBoard.domain.notification.dto.NotificationView;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 합치는 범위 안의 읽지 않은 알림 중 가장 최근 알림에 답글을 더한다 (없으면 0, 새 알림을 만듦)
+    // 늦게 도착한 답글의 범위에 알림이 둘 걸려도 한 곳에만 더한다
+    @Modifying
+    @Query("update Notification n set n.replyCount = n.replyCount + :count, n.postId = :postId, n.commentId = :commentId, " +
+            "n.replierId = :replierId, n.lastReplyAt = :lastReplyAt " +
+            "where n.id = (select max(m.id) from Notification m " +
+            "where m.recipientId = :recipientId and m.readAt is null and m.createdDate >= :windowStart)")
+    int collapse(@Param("recipientId") Long recipientId, @Param("count") int count, @Param("postId") Long postId,
+                 @Param("commentId") Long commentId, @Param("replierId") Long replierId,
+                 @Param("lastReplyAt") LocalDateTime lastReplyAt, @Param("windowStart") LocalDateTime windowStart);
+
+    // == 알림함 == //
+    @Query("select new toyproject.noticeBoard.domain.notification.dto.NotificationView(" +
+            "n.id, n.postId, n.commentId, n.replierId, w.nickname, n.replyCount, n.createdDate, n.lastReplyAt) " +
+            "from Notification n left join Member w on w.id = n.replierId " +
+            "where n.recipientId = (select m.id from Member m where m.username = :username) and n.readAt is null " +
+            "order by n.id desc")
+    List<NotificationView> findUnread(@Param("username") String username, Pageable pageable);
+
+    @Query("select new toyproject.noticeBoard.domain.notification.dto.NotificationView(" +
+            "n.id, n.postId, n.commentId, n.replierId, w.nickname, n.replyCount, n.createdDate, n.lastReplyAt) " +
+            "from Notification n left join Member w on w.id = n.replierId " +
+            "where n.recipientId = (select m.id from Member m where m.username = :username) and n.readAt is null " +
+            "and n.id < :afterId " +
+            "order by n.id desc")
+    List<NotificationView> findUnreadAfter(@Param("username") String username, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("update Notification n set n.readAt = :now where n.id = :id and n.readAt is null " +
+            "and n.recipientId = (select m.id from Member m where m.username = :username)")
+    int markRead(@Param("username") String username, @Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from Notification n where n.recipientId = :recipientId")
+    int bulkDeleteByRecipientId(@Param("recipientId") Long recipientId);  // 회원탈퇴
+}
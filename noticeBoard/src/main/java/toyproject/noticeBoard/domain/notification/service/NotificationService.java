@@ -0,0 +1,9 @@
+package toyproject.noticeBoard.domain.notification.service;
+
+import toyproject.noticeBoard.domain.notification.dto.NotificationSlice;
+
+public interface NotificationService {
+    NotificationSlice findUnread(String username, Long cursor, int size);  // 읽지 않은 알림 (최신순, cursor 는 이전 페이지의 nextCursor)
+
+    void markRead(String username, Long id);
+}
@@ -0,0 +1,43 @@
+package toyproject.noticeBoard.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.notification.dto.NotificationSlice;
+import toyproject.noticeBoard.domain.notification.dto.NotificationView;
+import toyproject.noticeBoard.domain.notification.repository.NotificationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationServiceImpl implements NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationRepository notificationRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationSlice findUnread(String username, Long cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, pageSize + 1);  // 다음 페이지 여부 확인용으로 하나 더
+
+        List<NotificationView> rows = cursor == null
+                ? notificationRepository.findUnread(username, pageable)
+                : notificationRepository.findUnreadAfter(username, cursor, pageable);
+        return NotificationSlice.of(rows, pageSize);
+    }
+
+    // 다른 회원의 알림이거나 이미 읽은 알림이면 예외
+    @Override
+    public void markRead(String username, Long id) {
+        if (notificationRepository.markRead(username, id, LocalDateTime.now()) == 0) {
+            throw new IllegalArgumentException("알림이 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package toyproject.noticeBoard.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.dto.CommentWriter;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.notification.Notification;
+import toyproject.noticeBoard.domain.notification.repository.NotificationRepository;
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+import toyproject.noticeBoard.global.outbox.DomainEventBatchHandler;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋된 답글(부모가 있는 CommentAdded)을 아웃박스 배치마다 모아서 알림함에 넣는다.
+ * 답글을 쓰는 트랜잭션은 알림을 기다리지 않고, 알림을 넣지 못해도 답글은 그대로 저장된다.
+ *
+ * - 답글이 달린 댓글의 작성자는 배치마다 한 번에 조회한다. (자기 댓글에 단 답글, 작성자가 없는 댓글은 알리지 않음)
+ * - 같은 회원에게 collapse-window-ms 안에 달린 답글은 알림 하나로 합친다. 읽지 않은 알림이 범위 안에 있으면 거기에 더한다.
+ * - 배치 전체를 한 트랜잭션에 넣고, 아웃박스 행은 그 뒤에 지워진다. 넣지 못하면 OutboxDispatcher 가 이 리스너에게만 다시 전달한다.
+ *   (서버가 죽어도 알림이 빠지지 않음)
+ * - 같은 회원의 알림을 두 곳에서 동시에 합치지 않도록 받는 회원별로 잠근다.
+ */
+@Component
+public class ReplyNotificationEventHandler implements DomainEventBatchHandler {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final Duration collapseWindow;
+
+    private final CommentRepository commentRepository;
+    private final NotificationRepository notificationRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock[] recipientLocks = new ReentrantLock[LOCK_STRIPES];
+
+    // == 메트릭 == //
+    private final Counter deliveredCounter;
+    private final Counter createdCounter;
+
+    public ReplyNotificationEventHandler(@Value("${notification.reply.collapse-window-ms:600000}") long collapseWindowMillis,
+                                         CommentRepository commentRepository,
+                                         NotificationRepository notificationRepository,
+                                         EntityManager em,
+                                         TransactionTemplate transactionTemplate,
+                                         MeterRegistry meterRegistry) {
+        this.collapseWindow = Duration.ofMillis(collapseWindowMillis);
+        this.commentRepository = commentRepository;
+        this.notificationRepository = notificationRepository;
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            recipientLocks[i] = new ReentrantLock();
+        }
+
+        this.deliveredCounter = Counter.builder("notification.reply.delivered")
+                .description("알림함에 넣은 답글 수")
+                .register(meterRegistry);
+        this.createdCounter = Counter.builder("notification.reply.created")
+                .description("새로 만든 알림 수 (나머지 답글은 기존 알림에 합침)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void handleBatch(List<DomainEvent> events) {
+        List<CommentAdded> replies = events.stream()
+                .filter(event -> event instanceof CommentAdded added && added.parentId() != null)
+                .map(CommentAdded.class::cast)
+                .toList();
+        if (replies.isEmpty()) {
+            return;
+        }
+
+        Set<Long> parentIds = replies.stream().map(CommentAdded::parentId).collect(Collectors.toSet());
+        Map<Long, Long> recipients = commentRepository.findWritersByIdIn(parentIds).stream()
+                .collect(Collectors.toMap(CommentWriter::commentId, CommentWriter::writerId));
+
+        Map<Long, List<CommentAdded>> byRecipient = new LinkedHashMap<>();
+        replies.stream()
+                .sorted(Comparator.comparing(CommentAdded::createdDate))
+                .forEach(reply -> {
+                    Long recipientId = recipients.get(reply.parentId());
+                    if (recipientId != null && !recipientId.equals(reply.writerId())) {
+                        byRecipient.computeIfAbsent(recipientId, id -> new ArrayList<>()).add(reply);
+                    }
+                });
+        if (byRecipient.isEmpty()) {
+            return;
+        }
+
+        List<ReentrantLock> locks = lockAll(byRecipient.keySet());
+        try {
+            int[] created = new int[1];
+            transactionTemplate.executeWithoutResult(status -> byRecipient.forEach((recipientId, received) -> {
+                for (List<CommentAdded> window : splitByWindow(received)) {
+                    created[0] += merge(recipientId, window);
+                }
+            }));
+            deliveredCounter.increment(byRecipient.values().stream().mapToInt(List::size).sum());
+            createdCounter.increment(created[0]);
+        } finally {
+            locks.forEach(ReentrantLock::unlock);
+        }
+    }
+
+    // 커밋까지 잡고 있도록 트랜잭션 밖에서 잠근다 (교착되지 않도록 번호 순서대로)
+    private List<ReentrantLock> lockAll(Set<Long> recipientIds) {
+        Set<Integer> stripes = new TreeSet<>();
+        recipientIds.forEach(recipientId -> stripes.add(Math.floorMod(recipientId.hashCode(), LOCK_STRIPES)));
+
+        List<ReentrantLock> locks = new ArrayList<>();
+        for (int stripe : stripes) {
+            ReentrantLock lock = recipientLocks[stripe];
+            lock.lock();
+            locks.add(lock);
+        }
+        return locks;
+    }
+
+    // 첫 답글부터 collapse-window-ms 안의 답글끼리 묶는다 (시간순으로 정렬되어 있음)
+    private List<List<CommentAdded>> splitByWindow(List<CommentAdded> replies) {
+        List<List<CommentAdded>> windows = new ArrayList<>();
+        int start = 0;
+        for (int i = 1; i <= replies.size(); i++) {
+            if (i == replies.size() || Duration.between(replies.get(start).createdDate(), replies.get(i).createdDate()).compareTo(collapseWindow) > 0) {
+                windows.add(replies.subList(start, i));
+                start = i;
+            }
+        }
+        return windows;
+    }
+
+    // 범위 안의 가장 최근 읽지 않은 알림에 더하고 (UPDATE 1번), 없으면 새로 만든다 (INSERT 1번)
+    private int merge(Long recipientId, List<CommentAdded> replies) {
+        CommentAdded first = replies.get(0);
+        CommentAdded last = replies.get(replies.size() - 1);
+
+        int collapsed = notificationRepository.collapse(recipientId, replies.size(), last.postId(), last.commentId(), last.writerId(),
+                last.createdDate(), first.createdDate().minus(collapseWindow));
+        if (collapsed > 0) {
+            return 0;
+        }
+
+        em.persist(new Notification(recipientId, last.postId(), last.commentId(), last.writerId(), replies.size(),
+                first.createdDate(), last.createdDate()));
+        return 1;
+    }
+}
@@ -1,8 +1,11 @@
 package toyproject.noticeBoard.domain.post;
 
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import toyproject.noticeBoard.domain.BaseTimeEntity;
 import toyproject.noticeBoard.domain.comment.Comment;
 import toyproject.noticeBoard.domain.member.Member;
@@ -15,12 +18,16 @@ import java.util.List;
 import static javax.persistence.CascadeType.ALL;
 
 @Table(name = "POST")
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE, region = "post")  // 2차 캐시 (ehcache.xml)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
 public class Post extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // IDENTITY 는 INSERT 배치가 꺼지므로 pooled-lo 시퀀스로 id 를 미리 할당한다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_seq_generator")
+    @SequenceGenerator(name = "post_seq_generator", sequenceName = "post_seq", allocationSize = 50)
     @Column(name = "post_id")
     private Long id;
 
@@ -42,6 +49,14 @@ public class Post extends BaseTimeEntity {
     @OneToMany(mappedBy = "post", cascade = ALL, orphanRemoval = true)
     private List<Comment> commentList = new ArrayList<>();
 
+    @Builder
+    public Post(Member writer, String title, String content, String filePath) {
+        this.writer = writer;
+        this.title = title;
+        this.content = content;
+        this.filePath = filePath;
+    }
+
     // == 연관관계 편의 메서드 == //
     public void confirmWriter(Member writer) {
         // writer 는 변경이 불가능하므로 이렇게만 해주어도 될 듯
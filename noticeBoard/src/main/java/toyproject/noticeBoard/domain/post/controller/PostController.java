@@ -0,0 +1,48 @@
+package toyproject.noticeBoard.domain.post.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import toyproject.noticeBoard.domain.post.dto.HotPostSnapshot;
+import toyproject.noticeBoard.domain.post.dto.PostView;
+import toyproject.noticeBoard.domain.post.service.HotPostRanking;
+import toyproject.noticeBoard.domain.post.service.PostService;
+import toyproject.noticeBoard.global.http.ContentVersion;
+
+@RestController
+@RequiredArgsConstructor
+public class PostController {
+
+    private final PostService postService;
+    private final HotPostRanking hotPostRanking;
+
+    // 게시글 조회 (바뀌지 않았으면 수정 시간 조회 1번 후 304, 304 도 조회수에 셈)
+    @GetMapping("/posts/{postId}")
+    public ResponseEntity<PostView> post(@PathVariable Long postId, WebRequest request) throws Exception {
+        ContentVersion version = postService.findVersion(postId);
+        hotPostRanking.recordView(postId);
+        if (version.checkNotModified(request)) {
+            return null;
+        }
+        return version.ok(PostView.of(postService.findById(postId)));
+    }
+
+    // 인기 게시글 (refresh-interval-ms 마다 계산한 순위, 쿼리 없음)
+    @GetMapping("/posts/hot")
+    public HotPostSnapshot hotPosts() {
+        return hotPostRanking.current();
+    }
+
+    // 없는 게시글만 404, 나머지 오류는 500 (메시지를 응답에 싣지 않음)
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public String notFound(IllegalArgumentException e) {
+        return e.getMessage();
+    }
+}
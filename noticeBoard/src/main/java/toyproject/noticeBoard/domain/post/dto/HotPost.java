@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+/**
+ * 인기 게시글 순위의 한 항목 (score 는 순위를 새로 계산한 시점의 감쇠된 점수)
+ */
+public record HotPost(Long postId, String title, double score) {
+}
@@ -0,0 +1,17 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 게시글 순위 (점수가 높은 순)
+ * 새로 계산할 때마다 새 객체로 바꾸므로 요청은 락 없이 그대로 읽는다. 아직 계산하지 않았으면 refreshedAt 은 null 이다.
+ */
+public record HotPostSnapshot(List<HotPost> posts, LocalDateTime refreshedAt) {
+
+    public static final HotPostSnapshot EMPTY = new HotPostSnapshot(List.of(), null);
+
+    public HotPostSnapshot {
+        posts = List.copyOf(posts);
+    }
+}
@@ -0,0 +1,9 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글에 있었던 활동 하나 (게시글 작성, 댓글 작성) 와 그 시간
+ */
+public record PostActivity(Long postId, LocalDateTime activityAt) {
+}
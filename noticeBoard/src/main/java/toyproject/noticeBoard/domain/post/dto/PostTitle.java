@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+/**
+ * 게시글 id, 제목 (본문 없이 조회)
+ */
+public record PostTitle(Long id, String title) {
+}
@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+import toyproject.noticeBoard.global.http.ContentVersion;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검증자를 만들기 위한 id, 마지막 수정 시간 (본문 없이 기본 키로 조회)
+ */
+public record PostVersion(Long id, LocalDateTime lastModified) {
+
+    public ContentVersion toContentVersion() {
+        return ContentVersion.of(id + "-" + ContentVersion.tagOf(lastModified), lastModified);
+    }
+}
@@ -0,0 +1,32 @@
+package toyproject.noticeBoard.domain.post.dto;
+
+import toyproject.noticeBoard.domain.post.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회 응답
+ */
+public record PostView(
+        Long id,
+        Long writerId,
+        String title,
+        String content,
+        String filePath,
+        LocalDateTime createdDate,
+        LocalDateTime lastModifiedDate
+) {
+
+    // 작성자는 id 만 꺼내므로 프록시가 초기화되지 않는다
+    public static PostView of(Post post) {
+        return new PostView(
+                post.getId(),
+                post.getWriter() == null ? null : post.getWriter().getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getFilePath(),
+                post.getCreateData(),
+                post.getLastModifiedDate()
+        );
+    }
+}
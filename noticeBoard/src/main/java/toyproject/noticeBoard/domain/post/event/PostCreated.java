@@ -0,0 +1,18 @@
+package toyproject.noticeBoard.domain.post.event;
+
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+
+import java.time.LocalDateTime;
+
+public record PostCreated(Long postId, Long writerId, LocalDateTime createdDate) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "post";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
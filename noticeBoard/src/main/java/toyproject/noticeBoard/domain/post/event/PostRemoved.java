@@ -0,0 +1,22 @@
+package toyproject.noticeBoard.domain.post.event;
+
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 게시글 삭제 (댓글은 한 번에 지우므로 댓글마다 CommentRemoved 를 만들지 않고, 작성자별로 지워진 댓글 수를 함께 담는다)
+ */
+public record PostRemoved(Long postId, Long writerId, Map<Long, Long> removedCommentsByWriter, LocalDateTime removedDate) implements DomainEvent {
+
+    @Override
+    public String aggregateType() {
+        return "post";
+    }
+
+    @Override
+    public Long aggregateId() {
+        return postId;
+    }
+}
@@ -0,0 +1,51 @@
+package toyproject.noticeBoard.domain.post.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import toyproject.noticeBoard.domain.member.dto.MemberActivityCount;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.dto.PostActivity;
+import toyproject.noticeBoard.domain.post.dto.PostTitle;
+import toyproject.noticeBoard.domain.post.dto.PostVersion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostRepository extends JpaRepository<Post, Long> {
+
+    @Query("select p.id from Post p where p.writer.id = :writerId order by p.id")
+    List<Long> findIdsByWriterId(@Param("writerId") Long writerId, Pageable pageable);  // 회원탈퇴 청크 조회
+
+    // 엔티티를 불러오지 않고 한 번에 삭제 (댓글은 먼저 지워져 있어야 함)
+    @Modifying
+    @Query("delete from Post p where p.id in :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("delete from Post p where p.id = :id")
+    int bulkDeleteById(@Param("id") Long id);
+
+    // 조건부 GET 검증자 (본문을 불러오지 않음)
+    @Query("select new toyproject.noticeBoard.domain.post.dto.PostVersion(p.id, p.lastModifiedDate) from Post p where p.id = :id")
+    Optional<PostVersion> findVersionById(@Param("id") Long id);
+
+    // == 회원 활동 카운터 == //
+    @Query("select p.writer.id from Post p where p.id = :id")
+    Optional<Long> findWriterIdById(@Param("id") Long id);
+
+    @Query("select new toyproject.noticeBoard.domain.member.dto.MemberActivityCount(p.writer.id, count(p), max(p.createData)) " +
+            "from Post p where p.writer.id > :afterId and p.writer.id <= :lastId group by p.writer.id")
+    List<MemberActivityCount> countByWriterBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId);  // 다시 세기
+
+    // == 인기 게시글 == //
+    @Query("select new toyproject.noticeBoard.domain.post.dto.PostTitle(p.id, p.title) from Post p where p.id in :ids")
+    List<PostTitle> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select new toyproject.noticeBoard.domain.post.dto.PostActivity(p.id, p.createData) from Post p where p.createData >= :since")
+    List<PostActivity> findCreatedSince(@Param("since") LocalDateTime since);  // 시작할 때 최근 활동 채우기
+}
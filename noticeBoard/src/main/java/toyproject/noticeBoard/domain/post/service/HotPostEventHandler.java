@@ -0,0 +1,31 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.post.event.PostCreated;
+import toyproject.noticeBoard.domain.post.event.PostRemoved;
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+import toyproject.noticeBoard.global.outbox.DomainEventHandler;
+
+/**
+ * 커밋된 게시글/댓글 이벤트를 인기 게시글 점수에 더한다.
+ * 두 번 전달되면 점수가 조금 커지지만 순위에는 영향이 작으므로 따로 거르지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HotPostEventHandler implements DomainEventHandler {
+
+    private final HotPostRanking hotPostRanking;
+
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof PostCreated created) {
+            hotPostRanking.recordPost(created.postId(), created.createdDate());
+        } else if (event instanceof CommentAdded added) {
+            hotPostRanking.recordComment(added.postId(), added.createdDate());
+        } else if (event instanceof PostRemoved removed) {
+            hotPostRanking.remove(removed.postId());
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.post.dto.HotPost;
+import toyproject.noticeBoard.domain.post.dto.HotPostSnapshot;
+import toyproject.noticeBoard.domain.post.dto.PostActivity;
+import toyproject.noticeBoard.domain.post.dto.PostTitle;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 순위
+ * 요청마다 모든 게시글의 점수를 계산할 수 없으므로, 활동(게시글 작성, 댓글, 조회)이 있을 때 변화량만 모아두고
+ * refresh-interval-ms 마다 순위를 다시 계산해서 새 스냅샷으로 바꾼다. 요청은 스냅샷을 락 없이 읽는다.
+ *
+ * - 점수는 활동마다 가중치 * 2^(-경과 시간 / half-life) 의 합이다.
+ *   활동 시간 기준으로 미리 키운 값(forward decay)을 더하므로, 지난 점수를 매번 다시 줄이지 않아도 순서가 그대로 유지된다.
+ * - 새로 계산할 때는 지난 순위와 이번에 활동이 있었던 게시글만 size 개짜리 최소 힙에 넣는다. (점수는 늘기만 하므로 나머지는 순위에 들 수 없음)
+ *   순위에 있던 게시글이 지워졌을 때만 메모리의 점수 전체에서 다시 고른다.
+ * - 시작할 때 warm-up-hours 안의 게시글, 댓글 작성 시간(createData)으로 점수를 채운다. 조회수는 저장하지 않으므로 다시 0 부터 센다.
+ *
+ * 활동은 노드마다 따로 센다. (게시글, 댓글은 아웃박스 이벤트로 받으므로 한 노드만 셈)
+ */
+@Component
+@Slf4j
+public class HotPostRanking {
+
+    private static final int REBASE_HALF_LIVES = 16;  // 기준 시간을 옮기는 주기 (2^16 배까지 키운 뒤 줄임)
+
+    private final int size;
+    private final double halfLifeMillis;
+    private final double postWeight;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final long warmUpHours;
+    private final double pruneScore;  // 이보다 작아진 점수는 잊음
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+
+    // == 활동 기록 (여러 스레드) == //
+    private volatile Bucket current = new Bucket(System.currentTimeMillis());
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+
+    // == 순위 계산 (refresh 안에서만) == //
+    private Bucket retired;
+    private long landmark = System.currentTimeMillis();
+    private final Map<Long, Double> scores = new HashMap<>();
+    private List<Long> topIds = List.of();
+    private boolean rebuildNext;
+    private boolean warmedUp;
+
+    private volatile HotPostSnapshot snapshot = HotPostSnapshot.EMPTY;
+
+    // == 메트릭 == //
+    private final Timer refreshTimer;
+    private volatile int trackedPosts;
+
+    public HotPostRanking(@Value("${post.hot.size:20}") int size,
+                          @Value("${post.hot.half-life-minutes:360}") long halfLifeMinutes,
+                          @Value("${post.hot.post-weight:5}") double postWeight,
+                          @Value("${post.hot.comment-weight:3}") double commentWeight,
+                          @Value("${post.hot.view-weight:1}") double viewWeight,
+                          @Value("${post.hot.warm-up-hours:24}") long warmUpHours,
+                          PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          MeterRegistry meterRegistry) {
+        this.size = size;
+        this.halfLifeMillis = TimeUnit.MINUTES.toMillis(halfLifeMinutes);
+        this.postWeight = postWeight;
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.warmUpHours = warmUpHours;
+        this.pruneScore = Math.min(postWeight, Math.min(commentWeight, viewWeight)) / 100;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+
+        this.refreshTimer = Timer.builder("post.hot.refresh")
+                .description("인기 게시글 순위를 다시 계산하는 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        meterRegistry.gauge("post.hot.tracked", this, ranking -> ranking.trackedPosts);
+    }
+
+    public HotPostSnapshot current() {
+        return snapshot;
+    }
+
+    // == 활동 기록 == //
+
+    public void recordPost(Long postId, LocalDateTime createdAt) {
+        record(postId, postWeight, createdAt);
+    }
+
+    public void recordComment(Long postId, LocalDateTime createdAt) {
+        record(postId, commentWeight, createdAt);
+    }
+
+    public void recordView(Long postId) {
+        record(postId, viewWeight, LocalDateTime.now());
+    }
+
+    public void remove(Long postId) {
+        removedIds.add(postId);
+    }
+
+    // 바구니의 기준 시간으로 키워서 더하므로, 바구니가 바뀌어도 이미 더한 값을 고치지 않는다
+    private void record(Long postId, double weight, LocalDateTime activityAt) {
+        if (postId == null) {
+            return;
+        }
+        Bucket bucket = current;
+        long activityMillis = activityAt == null ? System.currentTimeMillis() : toMillis(activityAt);
+        bucket.deltas.merge(postId, weight * grow(activityMillis - bucket.landmark), Double::sum);
+    }
+
+    // == 순위 계산 == //
+
+    @Scheduled(fixedDelayString = "${post.hot.refresh-interval-ms:60000}")
+    public void run() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 순위를 계산하지 못했습니다. 지난 순위를 그대로 보여줍니다.", e);
+        }
+    }
+
+    public synchronized HotPostSnapshot refresh() {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        Set<Long> touched = new HashSet<>();
+
+        if (!warmedUp) {
+            warmUp(touched);
+            warmedUp = true;
+        }
+
+        // 바꾸기 전에 가져간 스레드가 지난 바구니에 늦게 넣은 값은 다음에 한 번 더 비울 때 더한다
+        Bucket drained = current;
+        current = new Bucket(now);
+        drain(retired, touched);
+        drain(drained, touched);
+        retired = drained;
+
+        boolean rebuild = rebuildNext;
+        for (Long postId : List.copyOf(removedIds)) {
+            removedIds.remove(postId);
+            scores.remove(postId);
+            rebuild |= topIds.contains(postId);
+        }
+
+        if (now - landmark >= REBASE_HALF_LIVES * halfLifeMillis) {
+            rebase(now);
+            rebuild = true;
+        }
+
+        Collection<Long> candidates = rebuild ? scores.keySet() : union(topIds, touched);
+        publish(selectTop(candidates), now);
+
+        trackedPosts = scores.size();
+        refreshTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return snapshot;
+    }
+
+    private void warmUp(Set<Long> touched) {
+        if (warmUpHours <= 0) {
+            return;
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusHours(warmUpHours);
+        List<PostActivity> posts = postRepository.findCreatedSince(since);
+        List<PostActivity> comments = commentRepository.findPostActivitySince(since);
+        posts.forEach(activity -> add(activity.postId(), postWeight * grow(toMillis(activity.activityAt()) - landmark), touched));
+        comments.forEach(activity -> add(activity.postId(), commentWeight * grow(toMillis(activity.activityAt()) - landmark), touched));
+        log.info("최근 {}시간의 활동으로 인기 게시글 점수를 채웠습니다. 게시글: {}, 댓글: {}", warmUpHours, posts.size(), comments.size());
+    }
+
+    private void drain(Bucket bucket, Set<Long> touched) {
+        if (bucket == null) {
+            return;
+        }
+
+        double scale = grow(bucket.landmark - landmark);  // 바구니 기준 시간에서 순위 기준 시간으로
+        for (Long postId : bucket.deltas.keySet()) {
+            Double delta = bucket.deltas.remove(postId);
+            if (delta != null) {
+                add(postId, delta * scale, touched);
+            }
+        }
+    }
+
+    private void add(Long postId, double delta, Set<Long> touched) {
+        scores.merge(postId, delta, Double::sum);
+        touched.add(postId);
+    }
+
+    // 점수가 너무 커지지 않도록 기준 시간을 지금으로 옮기고, 거의 0 이 된 게시글은 잊는다
+    private void rebase(long now) {
+        double scale = grow(landmark - now);
+        landmark = now;
+        scores.replaceAll((postId, score) -> score * scale);
+        scores.values().removeIf(score -> score < pruneScore);
+    }
+
+    private List<Long> selectTop(Collection<Long> candidates) {
+        Comparator<Long> byScore = Comparator.comparingDouble(scores::get);
+        PriorityQueue<Long> heap = new PriorityQueue<>(size + 1, byScore);  // 가장 낮은 점수가 맨 앞
+        for (Long postId : candidates) {
+            if (!scores.containsKey(postId)) {
+                continue;
+            }
+            if (heap.size() < size) {
+                heap.add(postId);
+            } else if (scores.get(postId) > scores.get(heap.peek())) {
+                heap.poll();
+                heap.add(postId);
+            }
+        }
+
+        List<Long> top = new ArrayList<>(heap);
+        top.sort(byScore.reversed());
+        return top;
+    }
+
+    // 제목은 순위에 든 게시글만 조회한다 (없는 게시글은 삭제 이벤트가 오기 전에 지워진 것)
+    private void publish(List<Long> top, long now) {
+        Map<Long, String> titles = top.isEmpty() ? Map.of() : postRepository.findTitlesByIdIn(top).stream()
+                .collect(Collectors.toMap(PostTitle::id, PostTitle::title, (a, b) -> a));
+
+        double decay = grow(landmark - now);
+        List<HotPost> posts = new ArrayList<>();
+        List<Long> found = new ArrayList<>();
+        for (Long postId : top) {
+            String title = titles.get(postId);
+            if (title == null) {
+                scores.remove(postId);
+                continue;
+            }
+            posts.add(new HotPost(postId, title, scores.get(postId) * decay));
+            found.add(postId);
+        }
+
+        rebuildNext = found.size() < top.size();  // 빠진 자리는 다음에 점수 전체에서 채움
+        topIds = List.copyOf(found);
+        snapshot = new HotPostSnapshot(posts, LocalDateTime.now());
+    }
+
+    private static Collection<Long> union(List<Long> topIds, Set<Long> touched) {
+        Set<Long> candidates = new LinkedHashSet<>(topIds);
+        candidates.addAll(touched);
+        return candidates;
+    }
+
+    private double grow(double elapsedMillis) {
+        return Math.pow(2, elapsedMillis / halfLifeMillis);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * refresh 사이에 들어온 변화량 (landmark 기준으로 키운 값)
+     */
+    private static final class Bucket {
+        private final long landmark;
+        private final Map<Long, Double> deltas = new ConcurrentHashMap<>();
+
+        private Bucket(long landmark) {
+            this.landmark = landmark;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.global.http.ContentVersion;
+
+public interface PostService {
+    void save(Post post);
+
+    Post findById(Long id) throws Exception;
+
+    ContentVersion findVersion(Long id) throws Exception;  // 조건부 GET 검증자 (ETag, Last-Modified)
+
+    void remove(Long id) throws Exception;
+}
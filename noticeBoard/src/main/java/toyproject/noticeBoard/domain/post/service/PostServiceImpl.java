@@ -0,0 +1,71 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.member.dto.MemberActivityCount;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.dto.PostVersion;
+import toyproject.noticeBoard.domain.post.event.PostCreated;
+import toyproject.noticeBoard.domain.post.event.PostRemoved;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+import toyproject.noticeBoard.global.http.ContentVersion;
+import toyproject.noticeBoard.global.outbox.DomainEventOutbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PostServiceImpl implements PostService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final DomainEventOutbox domainEventOutbox;
+
+    @Override
+    public void save(Post post) {
+        postRepository.save(post);
+        domainEventOutbox.append(new PostCreated(post.getId(), post.getWriter() == null ? null : post.getWriter().getId(),
+                post.getCreateData() == null ? LocalDateTime.now() : post.getCreateData()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Post findById(Long id) throws Exception {
+        return postRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ContentVersion findVersion(Long id) throws Exception {
+        return postRepository.findVersionById(id).map(PostVersion::toContentVersion)
+                .orElseThrow(() -> new IllegalArgumentException("게시글이 없습니다."));
+    }
+
+    /**
+     * Post.commentList 의 cascade(orphanRemoval) 를 타면 모든 댓글을 불러와 한 건씩 지우므로,
+     * 엔티티를 불러오지 않고 쿼리 3번에 지운다. (활동 카운터를 줄이기 위한 조회 2번, 이벤트 INSERT 1번 추가)
+     * 대댓글의 깊이와 상관없이 지울 수 있도록 부모 연결을 먼저 끊고, 댓글 -> 게시글 순서로 삭제한다.
+     */
+    @Override
+    public void remove(Long id) throws Exception {
+        Long writerId = postRepository.findWriterIdById(id).orElse(null);
+        List<MemberActivityCount> commentCounts = commentRepository.countActiveByWriterOnPost(id);
+
+        commentRepository.bulkUnlinkByPostId(id);
+        commentRepository.bulkDeleteByPostId(id);
+
+        if (postRepository.bulkDeleteById(id) == 0) {
+            throw new IllegalArgumentException("게시글이 없습니다.");
+        }
+
+        Map<Long, Long> removedCommentsByWriter = commentCounts.stream()
+                .collect(Collectors.toMap(MemberActivityCount::memberId, MemberActivityCount::count));
+        domainEventOutbox.append(new PostRemoved(id, writerId, removedCommentsByWriter, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,143 @@
+package toyproject.noticeBoard.global.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 입장 제어 (과부하일 때 요청을 바로 거절)
+ * Tomcat 은 스레드가 모자라면 요청을 대기열에 쌓아두므로, 과부하가 되면 모든 요청이 늦어지다가 함께 타임아웃된다.
+ * 경로 종류(login, api)마다 AimdLimiter 로 동시 처리 수를 제한하고, 넘는 요청은 보안 필터(JWT 회원 조회)와 DB 를 거치기 전에
+ * 503 + Retry-After 로 바로 돌려준다. 한도는 처리 시간을 보고 스스로 줄이고 늘린다.
+ *
+ * 로그인, 회원가입은 비밀번호 해시로 CPU 를 많이 쓰므로 다른 요청과 한도를 나눈다. actuator 는 제한하지 않는다. (헬스 체크)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_MESSAGE = "요청이 많아서 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+
+    private final long retryAfterSeconds;
+    private final Map<RouteClass, AimdLimiter> limiters = new EnumMap<>(RouteClass.class);
+    private final Map<RouteClass, Counter> rejectedCounters = new EnumMap<>(RouteClass.class);
+
+    public AdmissionControlFilter(@Value("${admission.retry-after-seconds:1}") long retryAfterSeconds,
+                                  Environment environment,
+                                  MeterRegistry meterRegistry) {
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        for (RouteClass route : RouteClass.values()) {
+            AimdLimiter limiter = limiter(environment, route);
+            limiters.put(route, limiter);
+
+            String tag = route.name().toLowerCase();
+            Gauge.builder("admission.limit", limiter, AimdLimiter::getLimit)
+                    .description("지금의 동시 처리 한도")
+                    .tag("route", tag)
+                    .register(meterRegistry);
+            Gauge.builder("admission.inflight", limiter, AimdLimiter::getInFlight)
+                    .description("처리 중인 요청 수")
+                    .tag("route", tag)
+                    .register(meterRegistry);
+            rejectedCounters.put(route, Counter.builder("admission.rejected")
+                    .description("한도를 넘어서 503 으로 거절한 요청 수")
+                    .tag("route", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    // admission.{login|api}.* (없으면 경로 종류의 기본값)
+    private static AimdLimiter limiter(Environment environment, RouteClass route) {
+        String prefix = "admission." + route.name().toLowerCase() + ".";
+        return new AimdLimiter(
+                environment.getProperty(prefix + "initial-limit", Integer.class, route.initialLimit),
+                environment.getProperty(prefix + "min-limit", Integer.class, route.minLimit),
+                environment.getProperty(prefix + "max-limit", Integer.class, route.maxLimit),
+                environment.getProperty(prefix + "latency-threshold-ms", Long.class, route.latencyThresholdMillis),
+                environment.getProperty("admission.backoff-ratio", Double.class, 0.9),
+                environment.getProperty("admission.window-size", Integer.class, 20));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return path(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RouteClass route = RouteClass.of(path(request));
+        AimdLimiter limiter = limiters.get(route);
+
+        if (!limiter.tryAcquire()) {
+            reject(route, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            limiter.release(System.nanoTime() - start);
+        }
+    }
+
+    // 보안 필터를 거치지 않고 바로 돌려준다 (sendError 는 에러 페이지로 다시 디스패치되므로 쓰지 않음)
+    private void reject(RouteClass route, HttpServletResponse response) throws IOException {
+        rejectedCounters.get(route).increment();
+        log.debug("동시 처리 한도를 넘어서 요청을 거절합니다. route: {}, limit: {}", route, limiters.get(route).getLimit());
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write(REJECTED_MESSAGE);
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * 한도를 따로 두는 경로 종류와 기본 한도
+     */
+    enum RouteClass {
+        LOGIN(20, 4, 50, 1000),
+        API(100, 10, 200, 500);
+
+        private final int initialLimit;
+        private final int minLimit;
+        private final int maxLimit;
+        private final long latencyThresholdMillis;
+
+        RouteClass(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMillis) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            this.latencyThresholdMillis = latencyThresholdMillis;
+        }
+
+        static RouteClass of(String path) {
+            return path.equals("/login") || path.equals("/singUp") ? LOGIN : API;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package toyproject.noticeBoard.global.admission;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD 동시 처리 한도 (여러 스레드에서 동시에 사용할 수 있음)
+ * 처리 중인 요청이 한도보다 적을 때만 받고, 끝난 요청 window-size 개의 지연 시간 p90 으로 한도를 바꾼다.
+ * 요청 하나가 느린 것으로는 줄이지 않는다. (GC, 큰 게시글 등)
+ *
+ * - p90 이 latency-threshold 를 넘으면 한도를 backoff-ratio 배로 줄인다. (multiplicative decrease)
+ * - 아니면 끝난 요청 하나마다 1 / 한도 만큼 늘린다. 한도만큼 끝나면 1 이 늘어난다. (additive increase)
+ *   한도의 절반도 쓰지 않을 때는 처음 한도까지만 늘린다. (줄어든 한도는 한가해도 회복하고, 한도가 끝없이 커지지는 않도록)
+ */
+public class AimdLimiter {
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private volatile double limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // == 지금 창 (this 로 잠금) == //
+    private final long[] window;
+    private int samples;
+    private int peakInFlight;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdMillis, double backoffRatio, int windowSize) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit || latencyThresholdMillis <= 0
+                || backoffRatio <= 0 || backoffRatio >= 1 || windowSize < 1) {
+            throw new IllegalArgumentException("동시 처리 한도 설정이 잘못되었습니다.");
+        }
+
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis);
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+        this.window = new long[windowSize];
+    }
+
+    // 받았으면 요청이 끝난 뒤 반드시 release 를 부른다
+    public boolean tryAcquire() {
+        int limit = getLimit();
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+
+        synchronized (this) {
+            window[samples++] = latencyNanos;
+            peakInFlight = Math.max(peakInFlight, inFlightBefore);
+            if (samples < window.length) {
+                return;
+            }
+
+            if (p90() > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else {
+                int ceiling = peakInFlight * 2 >= limit ? maxLimit : initialLimit;
+                if (limit < ceiling) {
+                    limit = Math.min(ceiling, limit + samples / limit);
+                }
+            }
+            samples = 0;
+            peakInFlight = 0;
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private long p90() {
+        long[] sorted = Arrays.copyOf(window, samples);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sorted.length * 0.9) - 1];
+    }
+}
@@ -0,0 +1,66 @@
+package toyproject.noticeBoard.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import toyproject.noticeBoard.global.datasource.ReadWriteRoutingDataSource;
+import toyproject.noticeBoard.global.datasource.ReadYourWritesTracker;
+
+/**
+ * 읽기/쓰기 분리 (datasource.routing.enabled, application-replica.yml)
+ * spring.datasource 로 primary 풀을, datasource.replica 로 replica 풀을 만들고 ReadWriteRoutingDataSource 하나로 묶는다.
+ * 두 풀은 빈으로 등록하지 않는다. (p6spy 가 풀과 라우팅에 두 번 붙어서 SQL 을 두 번 세지 않도록)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${datasource.routing.sticky-window-ms:2000}") long stickyWindowMillis) {
+        return new ReadYourWritesTracker(stickyWindowMillis);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties,
+                                                 Environment environment,
+                                                 ReadYourWritesTracker readYourWritesTracker,
+                                                 MeterRegistry meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("primary");
+
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(environment.getRequiredProperty("datasource.replica.url"))
+                .username(environment.getProperty("datasource.replica.username", properties.determineUsername()))
+                .password(environment.getProperty("datasource.replica.password", properties.determinePassword()))
+                .build();
+        binder.bind("datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+
+        // 풀 메트릭 hikaricp.connections.*{pool=primary|replica} (풀이 빈이 아니라서 자동으로 붙지 않음)
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+        replica.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        // 로컬에서 H2 를 replica 로 쓸 때는 복제가 안 되므로 스키마만 만든다
+        if (environment.getProperty("datasource.replica.migrate", Boolean.class, false)) {
+            Flyway.configure().dataSource(replica).baselineOnMigrate(true).load().migrate();
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replica, readYourWritesTracker, meterRegistry);
+    }
+}
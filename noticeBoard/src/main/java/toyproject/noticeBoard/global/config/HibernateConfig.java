@@ -0,0 +1,60 @@
+package toyproject.noticeBoard.global.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import toyproject.noticeBoard.domain.comment.CommentPathListener;
+import toyproject.noticeBoard.domain.member.MemberNameListener;
+import toyproject.noticeBoard.domain.member.service.MemberAvailabilityService;
+import toyproject.noticeBoard.global.sql.QueryCountingStatementInspector;
+
+import java.util.List;
+
+@Configuration
+public class HibernateConfig {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    // SessionFactory 가 만들어질 때 이벤트 리스너를 등록한다 (EntityManagerFactory 를 기다리지 않음)
+    @Bean
+    public HibernatePropertiesCustomizer eventListenerCustomizer(ObjectProvider<MemberAvailabilityService> memberAvailabilityService) {
+        EventListenerIntegrator integrator = new EventListenerIntegrator(new MemberNameListener(memberAvailabilityService));
+        return properties -> properties.put(INTEGRATOR_PROVIDER, (IntegratorProvider) () -> List.of(integrator));
+    }
+
+    // 요청별 쿼리 수를 센다 (QueryBudgetFilter)
+    @Bean
+    public HibernatePropertiesCustomizer statementInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+    }
+
+    private static class EventListenerIntegrator implements Integrator {
+
+        private final MemberNameListener memberNameListener;
+
+        private EventListenerIntegrator(MemberNameListener memberNameListener) {
+            this.memberNameListener = memberNameListener;
+        }
+
+        @Override
+        public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+            EventListenerRegistry registry = serviceRegistry.getService(EventListenerRegistry.class);
+            registry.appendListeners(EventType.PRE_INSERT, new CommentPathListener());
+            registry.appendListeners(EventType.POST_INSERT, memberNameListener);
+            registry.appendListeners(EventType.POST_UPDATE, memberNameListener);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
@@ -41,7 +41,9 @@ public class SecurityConfig {
 
                 .and()
                 .authorizeRequests()
-                .antMatchers("/login", "/singUp", "/").permitAll()
+                .antMatchers("/login", "/singUp", "/singUp/availability", "/").permitAll()
+                .antMatchers("/actuator/health").permitAll()  // 헬스 체크 (상세 정보는 보이지 않음)
+                .antMatchers("/actuator/**").hasRole("ADMIN")  // SQL 모양, 메트릭, 실행 중 설정 변경
                 .anyRequest().authenticated();
 
         http.addFilterAfter(jsonUsernamePasswordLoginFilter(), LogoutFilter.class);
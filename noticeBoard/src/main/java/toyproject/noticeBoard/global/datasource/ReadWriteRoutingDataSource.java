@@ -0,0 +1,134 @@
+package toyproject.noticeBoard.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * readOnly 트랜잭션은 replica 풀로, 나머지(쓰기, 트랜잭션 밖)는 primary 풀로 보낸다.
+ *
+ * - 트랜잭션을 시작할 때는 아직 readOnly 여부가 정해지지 않았으므로, 첫 문장을 실행할 때 커넥션을 고른다. (LazyConnectionDataSourceProxy)
+ * - 쓰기 트랜잭션이 커밋되면 로그인한 회원을 ReadYourWritesTracker 에 남기고, 그 회원의 읽기는 잠깐 primary 로 보낸다.
+ * - 풀마다 hikaricp.connections.*{pool=primary|replica}, 고른 결과는 datasource.routing{target, reason} 으로 남긴다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+    private final ReadYourWritesTracker tracker;
+
+    // == 메트릭 == //
+    private final Counter writeCounter;
+    private final Counter stickyCounter;
+    private final Counter readCounter;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary,
+                                      HikariDataSource replica,
+                                      ReadYourWritesTracker tracker,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.tracker = tracker;
+
+        this.writeCounter = routingCounter(meterRegistry, "primary", "write");
+        this.stickyCounter = routingCounter(meterRegistry, "primary", "sticky");
+        this.readCounter = routingCounter(meterRegistry, "replica", "read");
+        meterRegistry.gauge("datasource.routing.sticky.members", tracker, ReadYourWritesTracker::size);
+
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("풀별로 가져간 커넥션 수 (reason: write 는 쓰기나 트랜잭션 밖, sticky 는 방금 쓴 회원의 읽기)")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private HikariDataSource route() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeCounter.increment();
+            markWriteOnCommit();
+            return primary;
+        }
+
+        String member = currentMember();
+        if (member != null && tracker.isSticky(member)) {
+            stickyCounter.increment();
+            return primary;
+        }
+
+        readCounter.increment();
+        return replica;
+    }
+
+    private void markWriteOnCommit() {
+        String member = currentMember();
+        if (member == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.markWrite(member);
+            }
+        });
+    }
+
+    private static String currentMember() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    /**
+     * 실제로 커넥션을 고르는 DataSource
+     * unwrap 은 primary 풀을 돌려준다. (CommentCompactionJob 은 쓰기 풀이 바쁜지만 본다)
+     */
+    private class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route().getConnection(username, password);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T unwrap(Class<T> iface) throws SQLException {
+            return iface.isInstance(this) ? (T) this : primary.unwrap(iface);
+        }
+
+        @Override
+        public boolean isWrapperFor(Class<?> iface) throws SQLException {
+            return iface.isInstance(this) || primary.isWrapperFor(iface);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package toyproject.noticeBoard.global.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원별 마지막 쓰기 시간
+ * 글을 쓴 회원이 바로 다시 읽을 때 replica 가 아직 따라오지 못했으면 자기 글이 안 보이므로,
+ * 쓰기가 커밋된 뒤 sticky-window-ms 동안은 그 회원의 읽기도 primary 로 보낸다.
+ *
+ * 이 노드에서 쓴 것만 기억한다. (다른 노드로 간 요청은 복제 지연만큼 늦게 보일 수 있음)
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+    }
+
+    public void markWrite(String member) {
+        lastWrites.put(member, System.nanoTime());
+    }
+
+    public boolean isSticky(String member) {
+        Long lastWrite = lastWrites.get(member);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.nanoTime() - lastWrite < windowNanos) {
+            return true;
+        }
+        lastWrites.remove(member, lastWrite);  // 그 사이에 다시 쓴 경우는 지우지 않음
+        return false;
+    }
+
+    public int size() {
+        return lastWrites.size();
+    }
+
+    // 쓰고 나서 다시 읽지 않은 회원이 쌓이지 않도록 정리한다
+    @Scheduled(fixedDelayString = "${datasource.routing.sticky-window-ms:2000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWrites.entrySet().removeIf(entry -> now - entry.getValue() >= windowNanos);
+    }
+}
@@ -0,0 +1,69 @@
+package toyproject.noticeBoard.global.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET 의 검증자 (ETag, Last-Modified)
+ * 본문을 만들지 않고 수정 시간만 조회하는 쿼리로 만든다. 클라이언트가 가진 값과 같으면 본문 없이 304 로 답한다.
+ * 행이 지워져도 수정 시간이 바뀌지 않는 집계(max)는 lastModified 를 null 로 만들어서 ETag 로만 비교한다.
+ *
+ * <pre>
+ * ContentVersion version = postService.findVersion(postId);
+ * if (version.checkNotModified(request)) {
+ *     return null;  // 304
+ * }
+ * return version.ok(body);
+ * </pre>
+ */
+public record ContentVersion(String etag, LocalDateTime lastModified) {
+
+    public static ContentVersion of(String tag, LocalDateTime lastModified) {
+        return new ContentVersion("\"" + tag + "\"", lastModified);
+    }
+
+    // If-None-Match 가 있으면 ETag 로, 없으면 If-Modified-Since 로 비교 (304 상태와 헤더는 여기서 설정됨)
+    // lastModified 가 없으면 If-Modified-Since 는 무시하고 ETag 로만 비교
+    public boolean checkNotModified(WebRequest request) {
+        if (lastModified == null) {
+            return request.checkNotModified(etag);
+        }
+        return request.checkNotModified(etag, lastModifiedMillis());
+    }
+
+    /**
+     * no-cache 는 저장은 하되 쓸 때마다 다시 확인하라는 뜻이다.
+     * 직접 지정하지 않으면 Spring Security 가 no-store 를 붙여서 브라우저가 조건부 요청을 보내지 않는다.
+     */
+    public <T> ResponseEntity<T> ok(T body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag);
+        if (lastModified != null) {
+            builder.lastModified(lastModifiedMillis());
+        }
+        return builder.body(body);
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : toEpochMillis(lastModified);
+    }
+
+    // ETag 용 (Last-Modified 는 초 단위라서 1초 안에 두 번 바뀌면 구분하지 못하므로 마이크로초까지 넣음)
+    public static String tagOf(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return "0";
+        }
+        Instant instant = dateTime.atZone(ZoneId.systemDefault()).toInstant();
+        return Long.toString(instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -28,9 +28,11 @@ public class LoginSuccessJWTProviderHandler extends SimpleUrlAuthenticationSucce
 
         jwtService.sendAccessAndRefreshToken(response, accessToken, refreshToken);
 
-        memberRepository.findByUsername(username).ifPresent(
-                member -> member.updateRefreshToken(refreshToken)
-        );
+        // 필터는 트랜잭션 밖이므로 변경 감지가 되지 않는다. 저장해야 리프레시 토큰으로 재발급 받을 수 있음
+        memberRepository.findByUsername(username).ifPresent(member -> {
+            member.updateRefreshToken(refreshToken);
+            memberRepository.save(member);
+        });
 
         log.info("로그인에 성공합니다. username: {}", username);
         log.info("AccessToken 을 발급합니다. AccessToken: {}", accessToken);
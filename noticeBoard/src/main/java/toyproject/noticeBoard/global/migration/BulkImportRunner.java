@@ -0,0 +1,38 @@
+package toyproject.noticeBoard.global.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import toyproject.noticeBoard.global.migration.service.BulkImportService;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * --bulk-import.file=경로 로 실행하면 애플리케이션이 뜰 때 이전 게시판 데이터를 가져온다.
+ * --bulk-import.job 을 같은 이름으로 주면 중단된 지점부터 이어서 진행한다.
+ */
+@Component
+@ConditionalOnProperty(name = "bulk-import.file")
+@RequiredArgsConstructor
+public class BulkImportRunner implements ApplicationRunner {
+
+    @Value("${bulk-import.file}")
+    private String file;
+    @Value("${bulk-import.job:legacy-board}")
+    private String jobName;
+
+    private final BulkImportService bulkImportService;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        try (InputStream ndjson = new BufferedInputStream(Files.newInputStream(Path.of(file)))) {
+            bulkImportService.importFrom(jobName, ndjson);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package toyproject.noticeBoard.global.migration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * 가져오기 작업이 어디까지 커밋되었는지 기록한다.
+ * 청크와 같은 트랜잭션에서 갱신되므로, 재시작하면 lineNumber 다음 줄부터 이어서 진행한다.
+ */
+@Table(name = "IMPORT_CHECKPOINT")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ImportCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private long lineNumber;  // 커밋이 끝난 마지막 줄 번호
+
+    public ImportCheckpoint(String jobName) {
+        this.jobName = jobName;
+        this.lineNumber = 0;
+    }
+
+    public void moveTo(long lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+}
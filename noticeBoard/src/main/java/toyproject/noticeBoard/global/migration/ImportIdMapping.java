@@ -0,0 +1,45 @@
+package toyproject.noticeBoard.global.migration;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 이전 게시판의 id 와 새로 발급된 id 의 매핑
+ * 재시작했을 때 이미 가져온 회원, 게시글, 댓글을 다시 참조하기 위해 저장한다.
+ */
+@Table(name = "IMPORT_ID_MAPPING",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "record_type", "legacy_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class ImportIdMapping {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "import_id_mapping_seq_generator")
+    @SequenceGenerator(name = "import_id_mapping_seq_generator", sequenceName = "import_id_mapping_seq", allocationSize = 50)
+    @Column(name = "import_id_mapping_id")
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "record_type", nullable = false, length = 20)
+    private ImportRecordType recordType;
+
+    @Column(name = "legacy_id", nullable = false)
+    private Long legacyId;
+
+    @Column(name = "new_id", nullable = false)
+    private Long newId;
+
+    public ImportIdMapping(String jobName, ImportRecordType recordType, Long legacyId, Long newId) {
+        this.jobName = jobName;
+        this.recordType = recordType;
+        this.legacyId = legacyId;
+        this.newId = newId;
+    }
+}
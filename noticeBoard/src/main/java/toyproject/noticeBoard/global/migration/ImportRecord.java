@@ -0,0 +1,34 @@
+package toyproject.noticeBoard.global.migration;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * NDJSON 한 줄에 해당하는 이전 게시판의 데이터
+ * id, writerId, postId, parentId 는 모두 이전 게시판 기준의 id 이다.
+ *
+ * 참조되는 행이 먼저 나와야 한다. (회원 -> 게시글 -> 댓글 -> 대댓글 순서)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ImportRecord(
+        ImportRecordType type,
+        Long id,
+
+        // == 회원 == //
+        String username,
+        String password,  // 이미 인코딩된 비밀번호
+        String email,
+        String nickname,
+        String role,
+
+        // == 게시글 == //
+        Long writerId,
+        String title,
+        String content,
+        String filePath,
+
+        // == 댓글 == //
+        Long postId,
+        Long parentId,
+        boolean removed
+) {
+}
@@ -0,0 +1,5 @@
+package toyproject.noticeBoard.global.migration;
+
+public enum ImportRecordType {
+    MEMBER, POST, COMMENT
+}
@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.global.migration;
+
+/**
+ * 가져오기 결과
+ * rowsPerSecond 로 기존의 한 건씩 save 하는 방식과 처리량을 비교한다.
+ */
+public record ImportResult(String jobName, long importedRows, long skippedRows, long elapsedMillis) {
+
+    public double rowsPerSecond() {
+        if (elapsedMillis == 0) {
+            return importedRows;
+        }
+        return importedRows * 1000.0 / elapsedMillis;
+    }
+}
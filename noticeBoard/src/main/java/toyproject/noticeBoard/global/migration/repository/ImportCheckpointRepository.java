@@ -0,0 +1,7 @@
+package toyproject.noticeBoard.global.migration.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import toyproject.noticeBoard.global.migration.ImportCheckpoint;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpoint, String> {
+}
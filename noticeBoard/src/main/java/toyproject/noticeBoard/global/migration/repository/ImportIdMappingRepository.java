@@ -0,0 +1,10 @@
+package toyproject.noticeBoard.global.migration.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import toyproject.noticeBoard.global.migration.ImportIdMapping;
+
+import java.util.List;
+
+public interface ImportIdMappingRepository extends JpaRepository<ImportIdMapping, Long> {
+    List<ImportIdMapping> findAllByJobName(String jobName);  // 재시작할 때 매핑 복원
+}
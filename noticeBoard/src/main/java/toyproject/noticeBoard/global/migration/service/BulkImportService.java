@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.global.migration.service;
+
+import toyproject.noticeBoard.global.migration.ImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface BulkImportService {
+
+    /**
+     * NDJSON 을 스트림으로 읽어 chunk-size 단위로 커밋한다.
+     * 같은 jobName 으로 다시 실행하면 마지막 체크포인트 다음 줄부터 이어서 가져온다.
+     */
+    ImportResult importFrom(String jobName, InputStream ndjson) throws IOException;
+}
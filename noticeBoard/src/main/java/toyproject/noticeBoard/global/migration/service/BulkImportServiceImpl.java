@@ -0,0 +1,183 @@
+package toyproject.noticeBoard.global.migration.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.global.migration.ImportCheckpoint;
+import toyproject.noticeBoard.global.migration.ImportIdMapping;
+import toyproject.noticeBoard.global.migration.ImportRecord;
+import toyproject.noticeBoard.global.migration.ImportRecordType;
+import toyproject.noticeBoard.global.migration.ImportResult;
+import toyproject.noticeBoard.global.migration.repository.ImportIdMappingRepository;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkImportServiceImpl implements BulkImportService {
+
+    @Value("${bulk-import.chunk-size:1000}")
+    private int chunkSize;
+
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportIdMappingRepository importIdMappingRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public ImportResult importFrom(String jobName, InputStream ndjson) throws IOException {
+        long resumeLine = transactionTemplate.execute(status -> findOrCreateCheckpoint(jobName).getLineNumber());
+        Map<ImportRecordType, Map<Long, Long>> idMappings = loadIdMappings(jobName, resumeLine);
+
+        long startTime = System.currentTimeMillis();
+        long lineNumber = 0;
+        long importedRows = 0;
+        List<ImportRecord> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<ImportRecord> iterator = objectMapper.readerFor(ImportRecord.class).readValues(ndjson)) {
+            while (iterator.hasNextValue()) {
+                ImportRecord record = iterator.nextValue();
+                lineNumber++;
+
+                if (lineNumber <= resumeLine) {  // 이미 커밋된 줄은 건너뛴다
+                    continue;
+                }
+
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    importedRows += writeChunk(jobName, chunk, lineNumber, idMappings);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importedRows += writeChunk(jobName, chunk, lineNumber, idMappings);
+        }
+
+        ImportResult result = new ImportResult(jobName, importedRows, Math.min(resumeLine, lineNumber), System.currentTimeMillis() - startTime);
+        log.info("가져오기를 완료했습니다. job: {}, rows: {}, skipped: {}, {} ms, {} rows/sec",
+                jobName, result.importedRows(), result.skippedRows(), result.elapsedMillis(), String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    // 청크 하나를 한 트랜잭션으로 저장하고, 같은 트랜잭션에서 체크포인트를 옮긴다.
+    private int writeChunk(String jobName, List<ImportRecord> chunk, long lastLineNumber, Map<ImportRecordType, Map<Long, Long>> idMappings) {
+        Map<ImportRecordType, Map<Long, Long>> newMappings = new EnumMap<>(ImportRecordType.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (ImportRecord record : chunk) {
+                Long newId = persist(record, idMappings, newMappings);
+                newMappings.computeIfAbsent(record.type(), type -> new HashMap<>()).put(record.id(), newId);
+                em.persist(new ImportIdMapping(jobName, record.type(), record.id(), newId));
+            }
+
+            findOrCreateCheckpoint(jobName).moveTo(lastLineNumber);
+
+            em.flush();  // hibernate.jdbc.batch_size 단위로 INSERT 가 묶여서 나간다
+            em.clear();
+        });
+
+        // 커밋이 성공한 뒤에만 메모리의 매핑에 반영
+        newMappings.forEach((type, mapping) -> idMappings.computeIfAbsent(type, key -> new HashMap<>()).putAll(mapping));
+        log.debug("가져오기 청크를 커밋했습니다. job: {}, line: {}", jobName, lastLineNumber);
+        return chunk.size();
+    }
+
+    private Long persist(ImportRecord record, Map<ImportRecordType, Map<Long, Long>> idMappings, Map<ImportRecordType, Map<Long, Long>> newMappings) {
+        switch (record.type()) {
+            case MEMBER: {
+                Member member = Member.builder()
+                        .username(record.username())
+                        .password(record.password())
+                        .email(record.email())
+                        .nickname(record.nickname())
+                        .role(record.role() == null ? RoleType.USER : RoleType.valueOf(record.role()))
+                        .build();
+                em.persist(member);
+                return member.getId();
+            }
+            case POST: {
+                Post post = Post.builder()
+                        .writer(reference(Member.class, ImportRecordType.MEMBER, record.writerId(), idMappings, newMappings))
+                        .title(record.title())
+                        .content(record.content())
+                        .filePath(record.filePath())
+                        .build();
+                em.persist(post);
+                return post.getId();
+            }
+            case COMMENT: {
+                Comment comment = Comment.builder()
+                        .writer(reference(Member.class, ImportRecordType.MEMBER, record.writerId(), idMappings, newMappings))
+                        .post(reference(Post.class, ImportRecordType.POST, record.postId(), idMappings, newMappings))
+                        .parent(reference(Comment.class, ImportRecordType.COMMENT, record.parentId(), idMappings, newMappings))
+                        .content(record.content())
+                        .build();
+                if (record.removed()) {
+                    comment.remove();
+                }
+                em.persist(comment);
+                return comment.getId();
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 데이터 종류입니다. type: " + record.type());
+        }
+    }
+
+    // 연관관계는 프록시로만 연결해서 SELECT 가 나가지 않도록 한다.
+    private <T> T reference(Class<T> entityClass, ImportRecordType type, Long legacyId,
+                            Map<ImportRecordType, Map<Long, Long>> idMappings, Map<ImportRecordType, Map<Long, Long>> newMappings) {
+        if (legacyId == null) {
+            return null;
+        }
+
+        Long newId = newMappings.getOrDefault(type, Map.of()).get(legacyId);
+        if (newId == null) {
+            newId = idMappings.getOrDefault(type, Map.of()).get(legacyId);
+        }
+        if (newId == null) {
+            throw new IllegalArgumentException("참조하는 데이터가 먼저 가져와지지 않았습니다. type: " + type + ", id: " + legacyId);
+        }
+        return em.getReference(entityClass, newId);
+    }
+
+    private ImportCheckpoint findOrCreateCheckpoint(String jobName) {
+        ImportCheckpoint checkpoint = em.find(ImportCheckpoint.class, jobName);
+        if (checkpoint == null) {
+            checkpoint = new ImportCheckpoint(jobName);
+            em.persist(checkpoint);
+        }
+        return checkpoint;
+    }
+
+    private Map<ImportRecordType, Map<Long, Long>> loadIdMappings(String jobName, long resumeLine) {
+        Map<ImportRecordType, Map<Long, Long>> idMappings = new EnumMap<>(ImportRecordType.class);
+        if (resumeLine == 0) {
+            return idMappings;
+        }
+
+        importIdMappingRepository.findAllByJobName(jobName).forEach(
+                mapping -> idMappings.computeIfAbsent(mapping.getRecordType(), type -> new HashMap<>())
+                        .put(mapping.getLegacyId(), mapping.getNewId())
+        );
+        log.info("체크포인트부터 이어서 가져옵니다. job: {}, line: {}", jobName, resumeLine);
+        return idMappings;
+    }
+}
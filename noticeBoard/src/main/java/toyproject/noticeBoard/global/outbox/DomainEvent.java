@@ -0,0 +1,29 @@
+package toyproject.noticeBoard.global.outbox;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.event.CommentRemoved;
+import toyproject.noticeBoard.domain.post.event.PostCreated;
+import toyproject.noticeBoard.domain.post.event.PostRemoved;
+
+/**
+ * 아웃박스에 저장했다가 커밋된 뒤 DomainEventHandler 에게 전달하는 도메인 이벤트
+ * 같은 aggregate(aggregateType + aggregateId)의 이벤트는 저장한 순서대로 전달된다.
+ *
+ * payload 는 JSON 으로 저장하고 type 이름으로 다시 읽으므로, 새 이벤트는 여기에 등록한다.
+ * 이미 저장된 행을 읽을 수 있도록 이름과 필드는 바꾸지 않는다. (필드 추가는 가능)
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PostCreated.class, name = "PostCreated"),
+        @JsonSubTypes.Type(value = PostRemoved.class, name = "PostRemoved"),
+        @JsonSubTypes.Type(value = CommentAdded.class, name = "CommentAdded"),
+        @JsonSubTypes.Type(value = CommentRemoved.class, name = "CommentRemoved")
+})
+public interface DomainEvent {
+
+    String aggregateType();
+
+    Long aggregateId();
+}
@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.global.outbox;
+
+import java.util.List;
+
+/**
+ * 도메인 이벤트를 배치로 받는 리스너 (쓰기를 모아서 한 번에 반영할 때)
+ * OutboxDispatcher 가 읽은 배치마다 한 번, 그 배치에서 전달한 이벤트를 id 순으로 넘긴다. 디스패치 스레드에서, 트랜잭션 밖에서 불린다.
+ * 같은 aggregate 의 앞 이벤트가 재시도를 기다리면 뒤 이벤트는 들어오지 않는다.
+ *
+ * 예외를 던지면 넘긴 이벤트 모두 이 리스너에게만 다시 전달되므로, 배치 전체를 한 트랜잭션에 반영한다.
+ */
+public interface DomainEventBatchHandler {
+
+    void handleBatch(List<DomainEvent> events) throws Exception;
+}
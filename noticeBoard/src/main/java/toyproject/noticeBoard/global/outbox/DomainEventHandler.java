@@ -0,0 +1,14 @@
+package toyproject.noticeBoard.global.outbox;
+
+/**
+ * OutboxDispatcher 가 커밋된 도메인 이벤트를 전달하는 리스너 (빈으로 등록하면 모든 이벤트를 받음, 관심 없는 이벤트는 무시)
+ * 요청 스레드가 아니라 리스너 스레드에서, 트랜잭션 밖에서 불린다.
+ *
+ * 리스너마다 받았는지를 아웃박스 행에 남기므로, 다른 리스너가 실패해서 다시 전달될 때는 이미 받은 리스너에게 보내지 않는다.
+ * 예외를 던지면 이 이벤트와 같은 aggregate 의 뒤 이벤트는 다시 시도할 때까지 전달되지 않고, 이 리스너만 다시 받는다.
+ * 리스너가 성공한 뒤 결과를 남기기 전에 서버가 죽은 경우에만 같은 이벤트를 두 번 받는다. (at-least-once)
+ */
+public interface DomainEventHandler {
+
+    void handle(DomainEvent event) throws Exception;
+}
@@ -0,0 +1,37 @@
+package toyproject.noticeBoard.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 쓰기와 같은 트랜잭션에서 아웃박스에 저장한다. (쓰기 경로는 INSERT 1번만 더 함)
+ * 롤백되면 이벤트도 함께 사라지고, 커밋되면 OutboxDispatcher 가 리스너에게 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventOutbox {
+
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        em.persist(new OutboxEvent(event.aggregateType(), event.aggregateId(), event.getClass().getSimpleName(),
+                serialize(event), LocalDateTime.now()));
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("도메인 이벤트를 JSON 으로 바꿀 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package toyproject.noticeBoard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스의 도메인 이벤트를 배치로 읽어서 DomainEventHandler 에게 전달한다.
+ *
+ * - dispatch-interval-ms 마다 PENDING 이벤트를 id 순으로 batch-size 개씩 읽는다. (id 커서로 이어서 읽음)
+ * - aggregate 별로 묶어서 listener-threads 개의 스레드에 나눠준다. 같은 aggregate 의 이벤트는 한 스레드가 순서대로 전달한다.
+ * - 전달한 이벤트는 지우고, 실패한 이벤트는 retry-base-ms 부터 두 배씩(최대 retry-max-ms) 늦춰서 다시 전달한다.
+ *   실패한 이벤트 뒤의 같은 aggregate 이벤트는 앞 이벤트가 전달될 때까지 기다린다.
+ *   막힌 aggregate 의 이벤트는 건너뛰고 커서를 넘기므로, 한 aggregate 의 이벤트가 배치를 채워도 다른 aggregate 는 전달된다.
+ * - 배치 리스너(DomainEventBatchHandler)는 배치마다 한 번, 그 배치에서 전달한 이벤트를 id 순으로 한 번에 받는다.
+ * - 리스너 하나가 실패해도 다른 리스너에게는 전달하고, 받은 리스너를 행에 남긴다. 다시 전달할 때는 실패한 리스너에게만 보낸다.
+ * - max-attempts 번 실패하면 DEAD 로 바꾸고 다음 이벤트로 넘어간다. (ERROR 로그, outbox.dead)
+ *
+ * 한 노드에서만 전달한다고 가정한다. (같은 JVM 안에서는 dispatch 가 겹치지 않음)
+ * 리스너가 성공한 뒤 지우기 전에 죽으면 다시 전달되므로 리스너는 at-least-once 로 만든다.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.dispatcher.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, DomainEventHandler> handlers = new LinkedHashMap<>();  // 리스너 이름(클래스 이름) -> 리스너
+    private final Map<String, DomainEventBatchHandler> batchHandlers = new LinkedHashMap<>();
+    private final ExecutorService listenerPool;
+
+    // == 메트릭 == //
+    private final Counter deliveredCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer lagTimer;
+
+    public OutboxDispatcher(@Value("${outbox.batch-size:200}") int batchSize,
+                            @Value("${outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.retry-base-ms:1000}") long retryBaseMillis,
+                            @Value("${outbox.retry-max-ms:300000}") long retryMaxMillis,
+                            @Value("${outbox.listener-threads:4}") int listenerThreads,
+                            OutboxEventRepository outboxEventRepository,
+                            TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper,
+                            List<DomainEventHandler> handlers,
+                            ObjectProvider<DomainEventBatchHandler> batchHandlers,
+                            MeterRegistry meterRegistry) {
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        handlers.forEach(handler -> register(this.handlers, handler));
+        batchHandlers.orderedStream().forEach(handler -> register(this.batchHandlers, handler));
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.listenerPool = Executors.newFixedThreadPool(listenerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-listener-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.deliveredCounter = meterRegistry.counter("outbox.delivered");
+        this.failedCounter = meterRegistry.counter("outbox.failed");
+        this.deadCounter = meterRegistry.counter("outbox.dead");
+        this.lagTimer = Timer.builder("outbox.lag")
+                .description("이벤트를 저장한 뒤 리스너에게 전달될 때까지의 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private <T> void register(Map<String, T> registry, T handler) {
+        String name = ClassUtils.getUserClass(handler).getSimpleName();
+        if (handlers.containsKey(name) || batchHandlers.containsKey(name) || registry.putIfAbsent(name, handler) != null) {
+            throw new IllegalArgumentException("같은 이름의 리스너가 있습니다: " + name);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.dispatch-interval-ms:500}")
+    public void run() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 이벤트를 전달하지 못했습니다. 다음 주기에 다시 전달합니다.", e);
+        }
+    }
+
+    /**
+     * 지금 전달할 수 있는 이벤트를 모두 전달하고 전달한 수를 돌려준다.
+     */
+    public synchronized int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> blocked = ConcurrentHashMap.newKeySet();  // 앞 이벤트가 재시도를 기다리거나 이번에 실패한 aggregate
+        outboxEventRepository.findByStatusAndNextAttemptAtAfter(OutboxStatus.PENDING, now)
+                .forEach(event -> blocked.add(event.aggregateKey()));
+
+        int delivered = 0;
+        long afterId = 0;
+        while (true) {
+            List<OutboxEvent> batch = outboxEventRepository.findDueAfter(OutboxStatus.PENDING, afterId, now, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+
+            BatchResult result = deliver(batch, blocked);
+            complete(result);
+            delivered += result.deliveredCount;
+
+            if (batch.size() < batchSize || result.interrupted) {
+                return delivered;
+            }
+            afterId = batch.get(batch.size() - 1).getId();  // 건너뛴 이벤트는 다음 주기에 처음부터 다시 읽음
+        }
+    }
+
+    private BatchResult deliver(List<OutboxEvent> batch, Set<String> blocked) {
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            byAggregate.computeIfAbsent(event.aggregateKey(), key -> new ArrayList<>()).add(event);
+        }
+
+        BatchResult result = new BatchResult();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        byAggregate.forEach((aggregateKey, events) -> {
+            if (!blocked.contains(aggregateKey)) {
+                tasks.add(() -> {
+                    boolean allDelivered = false;
+                    try {
+                        allDelivered = deliverInOrder(events, result);
+                    } finally {
+                        if (!allDelivered) {
+                            blocked.add(aggregateKey);  // 이번 dispatch 의 다음 배치에서도 건너뜀
+                        }
+                    }
+                    return null;
+                });
+            }
+        });
+
+        try {
+            listenerPool.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();  // 종료 중. 끝난 것만 반영하고 나머지는 다음에 다시 전달
+            result.interrupted = true;
+        }
+
+        deliverToBatchHandlers(result, blocked);
+        return result;
+    }
+
+    // 실패하면 뒤 이벤트는 보내지 않고 false (실패한 이벤트까지는 배치 리스너도 받음)
+    private boolean deliverInOrder(List<OutboxEvent> events, BatchResult result) {
+        for (OutboxEvent event : events) {
+            Delivery delivery = new Delivery(event, new LinkedHashSet<>(event.deliveredHandlerNames()));
+            result.deliveries.add(delivery);
+            deliverToHandlers(delivery);
+            if (delivery.cause != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 아직 받지 않은 리스너에게 전달하고, 받은 리스너는 delivered 에 더한다 (하나가 실패해도 나머지에게는 전달)
+    private void deliverToHandlers(Delivery delivery) {
+        try {
+            delivery.domainEvent = objectMapper.readValue(delivery.event.getPayload(), DomainEvent.class);
+        } catch (Exception e) {
+            delivery.fail(e);
+            return;
+        }
+
+        for (Map.Entry<String, DomainEventHandler> entry : handlers.entrySet()) {
+            if (delivery.delivered.contains(entry.getKey())) {
+                continue;
+            }
+            try {
+                entry.getValue().handle(delivery.domainEvent);
+                delivery.delivered.add(entry.getKey());
+            } catch (Exception e) {
+                delivery.fail(e);
+            }
+        }
+    }
+
+    /**
+     * 리스너 스레드가 모두 끝난 뒤 배치 리스너에게 이 배치에서 전달한 이벤트를 id 순으로 한 번에 넘긴다.
+     * 배치 리스너가 실패하면 넘긴 이벤트 모두 그 리스너에게만 다시 전달한다.
+     */
+    private void deliverToBatchHandlers(BatchResult result, Set<String> blocked) {
+        List<Delivery> deliveries = result.deliveries.stream()
+                .filter(delivery -> delivery.domainEvent != null)
+                .sorted(Comparator.comparing(delivery -> delivery.event.getId()))
+                .toList();
+
+        batchHandlers.forEach((name, handler) -> {
+            List<Delivery> pending = deliveries.stream().filter(delivery -> !delivery.delivered.contains(name)).toList();
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                handler.handleBatch(pending.stream().map(delivery -> delivery.domainEvent).toList());
+                pending.forEach(delivery -> delivery.delivered.add(name));
+            } catch (Exception e) {
+                pending.forEach(delivery -> {
+                    delivery.fail(e);
+                    blocked.add(delivery.event.aggregateKey());
+                });
+            }
+        });
+    }
+
+    private void complete(BatchResult result) {
+        List<Long> deliveredIds = new ArrayList<>();
+        List<Delivery> failures = new ArrayList<>();
+        for (Delivery delivery : result.deliveries) {
+            if (delivery.cause == null) {
+                deliveredIds.add(delivery.event.getId());
+                lagTimer.record(Duration.between(delivery.event.getCreatedDate(), LocalDateTime.now()));
+            } else {
+                failures.add(delivery);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deliveredIds.isEmpty()) {
+                outboxEventRepository.bulkDeleteByIds(deliveredIds);
+            }
+            failures.forEach(this::markFailed);
+        });
+        result.deliveredCount = deliveredIds.size();
+        deliveredCounter.increment(deliveredIds.size());
+    }
+
+    private void markFailed(Delivery failure) {
+        OutboxEvent event = failure.event;
+        int attempts = event.getAttempts() + 1;
+        String error = abbreviate(String.valueOf(failure.cause));
+        String deliveredHandlers = failure.delivered.isEmpty() ? null : String.join(",", failure.delivered);
+        failedCounter.increment();
+
+        if (attempts >= maxAttempts) {
+            deadCounter.increment();
+            log.error("아웃박스 이벤트를 {}번 전달하지 못해서 DEAD 로 바꿉니다. id: {}, type: {}, aggregate: {}",
+                    attempts, event.getId(), event.getEventType(), event.aggregateKey(), failure.cause);
+            outboxEventRepository.markFailed(event.getId(), attempts, null, error, deliveredHandlers, OutboxStatus.DEAD);
+            return;
+        }
+
+        long delayMillis = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempts - 1, 30));
+        log.warn("아웃박스 이벤트를 전달하지 못해서 {}ms 뒤에 다시 전달합니다. id: {}, type: {}, attempts: {}, 받은 리스너: {}, {}",
+                delayMillis, event.getId(), event.getEventType(), attempts, failure.delivered, error);
+        outboxEventRepository.markFailed(event.getId(), attempts, LocalDateTime.now().plus(Duration.ofMillis(delayMillis)), error,
+                deliveredHandlers, OutboxStatus.PENDING);
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        listenerPool.shutdown();
+    }
+
+    private static final class BatchResult {
+        private final ConcurrentLinkedQueue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+        private volatile boolean interrupted;
+        private int deliveredCount;
+    }
+
+    // 이벤트 하나의 전달 결과 (리스너 스레드에서 채우고, invokeAll 이 끝난 뒤 디스패치 스레드에서 읽음)
+    private static final class Delivery {
+        private final OutboxEvent event;
+        private final Set<String> delivered;  // 받은 리스너 이름
+        private DomainEvent domainEvent;
+        private Exception cause;
+
+        private Delivery(OutboxEvent event, Set<String> delivered) {
+            this.event = event;
+            this.delivered = delivered;
+        }
+
+        private void fail(Exception e) {
+            if (cause == null) {
+                cause = e;
+            } else {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package toyproject.noticeBoard.global.outbox;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스 행 (도메인 이벤트 하나)
+ * 쓰기 트랜잭션 안에서 INSERT 하므로 커밋된 쓰기의 이벤트만 남고, 전달에 성공하면 OutboxDispatcher 가 지운다.
+ */
+@Table(name = "OUTBOX_EVENT", indexes = {
+        @Index(name = "idx_outbox_event_status", columnList = "status, outbox_event_id")  // 전달 대기 이벤트를 id 순으로 조회
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+public class OutboxEvent {
+
+    // 배치로 저장하는 쓰기 경로(CommentIngestionQueue)에서도 INSERT 가 묶이도록 시퀀스를 쓴다
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq_generator")
+    @SequenceGenerator(name = "outbox_event_seq_generator", sequenceName = "outbox_event_seq", allocationSize = 50)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String aggregateType;  // post, comment
+
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 50)
+    private String eventType;  // DomainEvent 의 type 이름 (로그, 조회용)
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;  // 이벤트 JSON (게시글 삭제는 작성자별 댓글 수가 들어가서 길이를 정할 수 없음)
+
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    private int attempts;  // 실패한 횟수
+
+    private LocalDateTime nextAttemptAt;  // 실패한 이벤트를 다시 전달할 시간
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(length = 500)
+    private String deliveredHandlers;  // 이미 받은 리스너 이름 (쉼표로 구분, 다시 전달할 때는 건너뜀)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private OutboxStatus status;
+
+    public OutboxEvent(String aggregateType, Long aggregateId, String eventType, String payload, LocalDateTime createdDate) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdDate = createdDate;
+        this.status = OutboxStatus.PENDING;
+    }
+
+    public Set<String> deliveredHandlerNames() {
+        return deliveredHandlers == null ? Set.of() : Arrays.stream(deliveredHandlers.split(",")).collect(Collectors.toSet());
+    }
+
+    // 같은 aggregate 의 이벤트를 순서대로 전달하기 위한 키
+    public String aggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+}
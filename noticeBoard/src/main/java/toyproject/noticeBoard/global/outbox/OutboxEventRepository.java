@@ -0,0 +1,42 @@
+package toyproject.noticeBoard.global.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 전달할 배치 (afterId 다음부터 id 순, 재시도 시간이 되지 않은 이벤트는 뺌)
+    @Query("select e from OutboxEvent e where e.status = :status and e.id > :afterId " +
+            "and (e.nextAttemptAt is null or e.nextAttemptAt <= :now) order by e.id")
+    List<OutboxEvent> findDueAfter(@Param("status") OutboxStatus status,
+                                   @Param("afterId") Long afterId,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    // 재시도를 기다리는 이벤트 (aggregate 마다 맨 앞의 실패한 이벤트 하나뿐이라 많지 않음)
+    List<OutboxEvent> findByStatusAndNextAttemptAtAfter(OutboxStatus status, LocalDateTime now);
+
+    long countByStatus(OutboxStatus status);
+
+    // 전달한 이벤트는 엔티티를 불러오지 않고 한 번에 지운다
+    @Modifying
+    @Query("delete from OutboxEvent e where e.id in :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.attempts = :attempts, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError, " +
+            "e.deliveredHandlers = :deliveredHandlers, e.status = :status " +
+            "where e.id = :id")
+    int markFailed(@Param("id") Long id,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError,
+                   @Param("deliveredHandlers") String deliveredHandlers,
+                   @Param("status") OutboxStatus status);
+}
@@ -0,0 +1,6 @@
+package toyproject.noticeBoard.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,  // 전달 대기 (실패한 이벤트는 nextAttemptAt 이후에 다시 전달)
+    DEAD  // max-attempts 번 실패해서 더 이상 전달하지 않음 (원인을 고친 뒤 PENDING 으로 되돌리면 다시 전달)
+}
@@ -0,0 +1,92 @@
+package toyproject.noticeBoard.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 요청별 쿼리 예산 (N+1 감지)
+ * 요청 하나의 쿼리 수가 max-queries 를 넘거나, 같은 모양의 쿼리가 max-repeats 번을 넘게 반복되면
+ * 엔드포인트와 문제의 쿼리를 WARN 으로 남기고 sql.request.budget.exceeded 를 올린다.
+ * 보안 필터(JWT 회원 조회)의 쿼리도 세도록 입장 제어(AdmissionControlFilter) 바로 다음에 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "sql.request-budget.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED = "UNMAPPED";  // 컨트롤러가 없는 요청 (URI 를 태그로 쓰면 id 마다 메트릭이 생김)
+
+    private final int maxQueries;
+    private final int maxRepeats;
+    private final MeterRegistry meterRegistry;
+
+    public QueryBudgetFilter(@Value("${sql.request-budget.max-queries:20}") int maxQueries,
+                             @Value("${sql.request-budget.max-repeats:5}") int maxRepeats,
+                             MeterRegistry meterRegistry) {
+        this.maxQueries = maxQueries;
+        this.maxRepeats = maxRepeats;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            check(request, RequestQueryCounter.finish());
+        }
+    }
+
+    private void check(HttpServletRequest request, RequestQueryCounter counter) {
+        String endpoint = endpoint(request);
+        DistributionSummary.builder("sql.request.queries")
+                .description("요청 하나에서 실행한 쿼리 수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(counter.total());
+
+        Map.Entry<String, Integer> repeated = counter.mostRepeated();
+        if (repeated != null && repeated.getValue() > maxRepeats) {
+            exceeded(endpoint, "repeated");
+            log.warn("N+1 의심: {} 에서 같은 쿼리를 {}번 실행했습니다. (허용 {}번, 전체 {}번) {}",
+                    endpoint, repeated.getValue(), maxRepeats, counter.total(), repeated.getKey());
+        } else if (counter.total() > maxQueries) {
+            exceeded(endpoint, "total");
+            log.warn("쿼리 예산 초과: {} 에서 쿼리를 {}번 실행했습니다. (허용 {}번) 가장 많은 쿼리: {}",
+                    endpoint, counter.total(), maxQueries, repeated == null ? "" : repeated.getKey());
+        }
+    }
+
+    private void exceeded(String endpoint, String reason) {
+        Counter.builder("sql.request.budget.exceeded")
+                .description("쿼리 예산을 넘은 요청 수 (reason: repeated 는 N+1 의심, total 은 전체 쿼리 수)")
+                .tag("endpoint", endpoint)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 컨트롤러 매핑 패턴 (GET /posts/{postId}/comments)
+    private String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern == null ? UNMAPPED : pattern);
+    }
+}
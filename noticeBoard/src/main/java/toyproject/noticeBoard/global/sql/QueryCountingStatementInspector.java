@@ -0,0 +1,16 @@
+package toyproject.noticeBoard.global.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 SQL 을 준비할 때마다 불러서 요청별로 센다. SQL 은 바꾸지 않는다.
+ * HibernateConfig 에서 hibernate.session_factory.statement_inspector 로 등록한다.
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueryCounter.record(sql);
+        return sql;
+    }
+}
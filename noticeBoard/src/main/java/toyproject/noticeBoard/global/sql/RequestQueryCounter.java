@@ -0,0 +1,67 @@
+package toyproject.noticeBoard.global.sql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 실행한 SQL 수를 모양별로 센다. (요청 스레드의 ThreadLocal)
+ * 같은 모양이 여러 번 나오면 연관관계를 하나씩 지연 로딩하는 N+1 일 가능성이 높다.
+ * 요청 밖(스케줄러, 비동기 작업)에서 실행한 SQL 은 세지 않는다.
+ *
+ * start 를 겹쳐 부르면 안쪽 카운터가 끝날 때까지 바깥쪽 카운터도 함께 센다. (테스트의 SqlCapture 안에서 요청을 보내는 경우)
+ */
+public final class RequestQueryCounter {
+
+    private static final ThreadLocal<RequestQueryCounter> CURRENT = new ThreadLocal<>();
+
+    private final RequestQueryCounter outer;
+    private final Map<String, Integer> countsByShape = new HashMap<>();
+    private int total;
+
+    private RequestQueryCounter(RequestQueryCounter outer) {
+        this.outer = outer;
+    }
+
+    public static void start() {
+        CURRENT.set(new RequestQueryCounter(CURRENT.get()));
+    }
+
+    public static RequestQueryCounter finish() {
+        RequestQueryCounter counter = CURRENT.get();
+        if (counter == null || counter.outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(counter.outer);
+        }
+        return counter;
+    }
+
+    public static void record(String sql) {
+        RequestQueryCounter counter = CURRENT.get();
+        if (counter == null) {
+            return;
+        }
+
+        String shape = SqlShapeNormalizer.normalize(sql);
+        for (; counter != null; counter = counter.outer) {
+            counter.total++;
+            counter.countsByShape.merge(shape, 1, Integer::sum);
+        }
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public Map<String, Integer> countsByShape() {
+        return Collections.unmodifiableMap(countsByShape);
+    }
+
+    // 가장 많이 반복된 모양 (없으면 null)
+    public Map.Entry<String, Integer> mostRepeated() {
+        return countsByShape.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
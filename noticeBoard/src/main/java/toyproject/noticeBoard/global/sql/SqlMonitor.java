@@ -0,0 +1,135 @@
+package toyproject.noticeBoard.global.sql;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * p6spy 이벤트 리스너 (p6spy 스타터가 JdbcEventListener 빈을 찾아서 등록한다)
+ * 모든 문장을 로그로 남기지 않고,
+ * - SQL 모양별 실행 시간 분포만 메모리에 기록한다. (모양 수는 max-shapes 까지, 넘으면 OTHER_SHAPE 에 합침)
+ * - slow-threshold-ms 보다 오래 걸린 문장은 WARN 으로 남긴다.
+ * - 나머지는 sample-rate 비율만큼만 남긴다.
+ * - 로그에는 값이 들어간 SQL 대신 모양만 남긴다. (비밀번호 해시, 토큰, 개인정보가 바인딩되므로)
+ * - tracing 을 켜면 모든 문장을 남긴다. (/actuator/sql 로 실행 중에 켜고 끌 수 있음)
+ */
+@Component
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlMonitor extends SimpleJdbcEventListener {
+
+    public static final String OTHER_SHAPE = "(other)";
+
+    private final int maxShapes;
+    private volatile long slowThresholdNanos;
+    private volatile double sampleRate;
+    private volatile boolean tracing;
+
+    private final Map<String, SqlShapeHistogram> shapes = new ConcurrentHashMap<>();
+
+    private final Counter slowCounter;
+
+    public SqlMonitor(@Value("${sql.monitor.slow-threshold-ms:200}") long slowThresholdMillis,
+                      @Value("${sql.monitor.sample-rate:0.01}") double sampleRate,
+                      @Value("${sql.monitor.max-shapes:1000}") int maxShapes,
+                      @Value("${sql.monitor.tracing:false}") boolean tracing,
+                      MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.sampleRate = sampleRate;
+        this.maxShapes = maxShapes;
+        this.tracing = tracing;
+
+        meterRegistry.gaugeMapSize("sql.monitor.shapes", shapes);
+        this.slowCounter = Counter.builder("sql.monitor.slow")
+                .description("slow-threshold-ms 보다 오래 걸린 문장 수")
+                .register(meterRegistry);
+    }
+
+    // 실행, 배치 실행, 조회, 수정 모두 여기로 온다
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String shape = SqlShapeNormalizer.normalize(statementInformation.getSql());
+        histogramOf(shape).record(timeElapsedNanos);
+
+        if (timeElapsedNanos >= slowThresholdNanos) {
+            slowCounter.increment();
+            log.warn("느린 SQL {} ms: {}", TimeUnit.NANOSECONDS.toMillis(timeElapsedNanos), shape);
+        } else if (tracing || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("SQL {} ms: {}", TimeUnit.NANOSECONDS.toMillis(timeElapsedNanos), shape);
+        }
+    }
+
+    private SqlShapeHistogram histogramOf(String shape) {
+        SqlShapeHistogram histogram = shapes.get(shape);
+        if (histogram != null) {
+            return histogram;
+        }
+
+        // 모양이 끝없이 늘어나지 않도록 (SQL 을 문자열로 이어붙이는 쿼리 등)
+        String key = shapes.size() < maxShapes ? shape : OTHER_SHAPE;
+        return shapes.computeIfAbsent(key, SqlShapeHistogram::new);
+    }
+
+    /**
+     * 느린 순서로 limit 개 (p99 -> 평균 순)
+     * sort 가 total 이면 전체 실행 시간(실행 수 x 평균) 순서, 자주 실행되는 가벼운 쿼리를 찾을 때 쓴다.
+     */
+    public List<SqlShapeSummary> findSlowest(int limit, String sort) {
+        Comparator<SqlShapeSummary> order = "total".equals(sort)
+                ? Comparator.comparingDouble(SqlShapeSummary::totalMs)
+                : Comparator.comparingDouble(SqlShapeSummary::p99Ms).thenComparingDouble(SqlShapeSummary::meanMs);
+
+        return shapes.values().stream()
+                .map(SqlShapeHistogram::summarize)
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void reset() {
+        shapes.clear();
+    }
+
+    public int countShapes() {
+        return shapes.size();
+    }
+
+    // == 실행 중에 바꾸는 설정 == //
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public void setTracing(boolean tracing) {
+        this.tracing = tracing;
+        log.info("SQL 전체 로그를 {}", tracing ? "켭니다." : "끕니다.");
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+}
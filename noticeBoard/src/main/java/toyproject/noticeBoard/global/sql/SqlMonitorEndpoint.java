@@ -0,0 +1,56 @@
+package toyproject.noticeBoard.global.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * GET    /actuator/sql?limit=20&sort=total  느린 SQL 모양 목록
+ * POST   /actuator/sql {"tracing": true}    전체 로그 켜기 (slowThresholdMs, sampleRate 도 바꿀 수 있음)
+ * DELETE /actuator/sql                      기록 비우기
+ */
+@Component
+@Endpoint(id = "sql")
+@ConditionalOnProperty(name = "sql.monitor.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlMonitorEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SqlMonitor sqlMonitor;
+
+    @ReadOperation
+    public SqlMonitorReport report(@Nullable Integer limit, @Nullable String sort) {
+        return new SqlMonitorReport(
+                sqlMonitor.isTracing(),
+                sqlMonitor.getSlowThresholdMillis(),
+                sqlMonitor.getSampleRate(),
+                sqlMonitor.countShapes(),
+                sqlMonitor.findSlowest(limit == null ? DEFAULT_LIMIT : Math.max(1, limit), sort)
+        );
+    }
+
+    @WriteOperation
+    public SqlMonitorReport configure(@Nullable Boolean tracing, @Nullable Long slowThresholdMs, @Nullable Double sampleRate) {
+        if (tracing != null) {
+            sqlMonitor.setTracing(tracing);
+        }
+        if (slowThresholdMs != null) {
+            sqlMonitor.setSlowThresholdMillis(slowThresholdMs);
+        }
+        if (sampleRate != null) {
+            sqlMonitor.setSampleRate(sampleRate);
+        }
+        return report(null, null);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlMonitor.reset();
+    }
+}
@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.global.sql;
+
+import java.util.List;
+
+/**
+ * /actuator/sql 응답 (현재 설정과 느린 SQL 모양 목록)
+ */
+public record SqlMonitorReport(
+        boolean tracing,
+        long slowThresholdMs,
+        double sampleRate,
+        int shapeCount,
+        List<SqlShapeSummary> slowest
+) {
+}
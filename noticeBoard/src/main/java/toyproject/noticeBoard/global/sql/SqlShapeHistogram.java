@@ -0,0 +1,76 @@
+package toyproject.noticeBoard.global.sql;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 모양 하나의 실행 시간 분포
+ * 고정된 구간(마이크로초, 대략 2배씩)에 개수만 세므로 기록할 때 락이 없고 메모리가 일정하다.
+ * 백분위수는 구간의 상한으로 계산하므로 최대 2배까지 크게 나올 수 있다.
+ */
+public class SqlShapeHistogram {
+
+    private static final long[] BUCKET_MICROS = {
+            100, 250, 500, 1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+            100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, Long.MAX_VALUE
+    };
+
+    private final String sql;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_MICROS.length);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public SqlShapeHistogram(String sql) {
+        this.sql = sql;
+    }
+
+    public void record(long elapsedNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(elapsedNanos);
+        int bucket = 0;
+        while (micros > BUCKET_MICROS[bucket]) {
+            bucket++;
+        }
+
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        maxNanos.accumulate(elapsedNanos);
+    }
+
+    public SqlShapeSummary summarize() {
+        long total = count.sum();
+        return new SqlShapeSummary(
+                sql,
+                total,
+                total == 0 ? 0 : toMillis(totalNanos.sum()) / total,
+                percentileMillis(total, 0.5),
+                percentileMillis(total, 0.99),
+                toMillis(maxNanos.get()),
+                toMillis(totalNanos.sum())
+        );
+    }
+
+    private double percentileMillis(long total, double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_MICROS.length; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                // 마지막 구간은 상한이 없으므로 최댓값으로
+                return i == BUCKET_MICROS.length - 1 ? toMillis(maxNanos.get()) : Math.min(BUCKET_MICROS[i] / 1000.0, toMillis(maxNanos.get()));
+            }
+        }
+        return toMillis(maxNanos.get());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
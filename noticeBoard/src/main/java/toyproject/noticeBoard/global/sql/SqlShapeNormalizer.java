@@ -0,0 +1,31 @@
+package toyproject.noticeBoard.global.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 모양(shape)으로 바꾼다. 값만 다른 문장은 같은 모양이 되도록 리터럴을 ? 로 바꾸고 공백을 하나로 줄인다.
+ * 예) select ... where id in (1, 2, 3) and name = 'a'  ->  select ... where id in (?) and name = ?
+ */
+public final class SqlShapeNormalizer {
+
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w$.])-?\\d+(?:\\.\\d+)?(?![\\w$])");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlShapeNormalizer() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");  // 청크 크기마다 다른 모양이 되지 않도록
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
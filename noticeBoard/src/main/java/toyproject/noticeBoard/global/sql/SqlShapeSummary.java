@@ -0,0 +1,15 @@
+package toyproject.noticeBoard.global.sql;
+
+/**
+ * SQL 모양별 실행 시간 (ms)
+ */
+public record SqlShapeSummary(
+        String sql,
+        long count,
+        double meanMs,
+        double p50Ms,
+        double p99Ms,
+        double maxMs,
+        double totalMs
+) {
+}
@@ -0,0 +1,91 @@
+package toyproject.noticeBoard.global.startup;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 시작 시간 보고
+ * 준비될 때까지 걸린 시간(JVM 시작부터)과 단계별 시간을 한 번 로그로 남겨서, 배포마다 시작 시간이 느려지는지 볼 수 있게 한다.
+ * 단계별 시간은 main 에서 BufferingApplicationStartup 을 쓸 때만 나온다. (테스트에서는 전체 시간만)
+ *
+ * startup.exit-after-ready=true 면 보고한 뒤 종료한다. (AppCDS 아카이브를 만드는 학습 실행, build.gradle 의 cdsArchive)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupTimingReporter {
+
+    private static final String STEP_PREFIX = "spring.boot.application.";
+    private static final String REFRESH_STEP = "spring.context.refresh";
+    private static final String BEAN_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 10;
+
+    @Value("${startup.exit-after-ready:false}")
+    private boolean exitAfterReady;
+
+    private final ConfigurableApplicationContext context;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        StringBuilder report = new StringBuilder("시작 시간: ").append(readyMillis).append(" ms (JVM 시작부터 준비까지)");
+
+        ApplicationStartup startup = context.getApplicationStartup();
+        if (startup instanceof BufferingApplicationStartup buffering) {
+            List<StartupTimeline.TimelineEvent> events = buffering.getBufferedTimeline().getEvents();
+            phases(events).forEach((name, duration) -> report.append("\n  ").append(name).append(": ").append(duration.toMillis()).append(" ms"));
+            slowestBeans(events).forEach(event -> report.append("\n  bean ").append(beanName(event)).append(": ")
+                    .append(event.getDuration().toMillis()).append(" ms"));
+        }
+        log.info(report.toString());
+
+        if (exitAfterReady) {
+            log.info("startup.exit-after-ready 가 켜져 있어서 종료합니다.");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    // 시작 순서대로 큰 단계 (환경 준비, 컨텍스트 준비, refresh, started, ready)
+    private Map<String, Duration> phases(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .filter(event -> event.getStartupStep().getName().startsWith(STEP_PREFIX) || event.getStartupStep().getName().equals(REFRESH_STEP))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getStartTime))
+                .collect(Collectors.toMap(event -> event.getStartupStep().getName(), StartupTimeline.TimelineEvent::getDuration,
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    // 만드는 데 오래 걸린 빈 (하위 빈을 만드는 시간 포함)
+    private List<StartupTimeline.TimelineEvent> slowestBeans(List<StartupTimeline.TimelineEvent> events) {
+        return events.stream()
+                .filter(event -> event.getStartupStep().getName().equals(BEAN_STEP))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .toList();
+    }
+
+    private String beanName(StartupTimeline.TimelineEvent event) {
+        for (var tag : event.getStartupStep().getTags()) {
+            if (tag.getKey().equals("beanName")) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
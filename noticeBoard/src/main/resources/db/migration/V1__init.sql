@@ -0,0 +1,77 @@
+-- 기본 스키마 (ddl-auto 가 만들던 것과 같은 테이블, 인덱스, 시퀀스)
+-- 엔티티를 바꾸면 이 파일을 고치지 않고 V2__... 를 새로 추가한다.
+
+create sequence member_seq start with 1 increment by 50;
+create sequence post_seq start with 1 increment by 50;
+create sequence comment_seq start with 1 increment by 50;
+create sequence import_id_mapping_seq start with 1 increment by 50;
+
+create table member (
+    member_id          bigint        not null,
+    create_data        timestamp,
+    last_modified_date timestamp,
+    username           varchar(30)   not null,
+    password           varchar(255),
+    email              varchar(30)   not null,
+    nickname           varchar(30)   not null,
+    role               varchar(255),
+    refresh_token      varchar(1000),
+    primary key (member_id),
+    constraint uk_member_username unique (username),
+    constraint uk_member_nickname unique (nickname)
+);
+
+create table post (
+    post_id            bigint       not null,
+    create_data        timestamp,
+    last_modified_date timestamp,
+    writer_id          bigint,
+    title              varchar(40)  not null,
+    content            clob         not null,
+    file_path          varchar(255),
+    primary key (post_id),
+    constraint fk_post_writer foreign key (writer_id) references member (member_id)
+);
+
+create table comment (
+    comment_id         bigint       not null,
+    create_data        timestamp,
+    last_modified_date timestamp,
+    writer_id          bigint,
+    post_id            bigint,
+    parent_id          bigint,
+    content            clob         not null,
+    is_removed         boolean      not null,
+    path               varchar(255),
+    primary key (comment_id),
+    constraint fk_comment_writer foreign key (writer_id) references member (member_id),
+    constraint fk_comment_post foreign key (post_id) references post (post_id),
+    constraint fk_comment_parent foreign key (parent_id) references comment (comment_id)
+);
+
+create index idx_comment_post_parent_created on comment (post_id, parent_id, create_data);
+create index idx_comment_path on comment (path);
+
+create table member_activity (
+    member_id        bigint    not null,
+    post_count       bigint    not null,
+    comment_count    bigint    not null,
+    last_activity_at timestamp,
+    primary key (member_id)
+);
+
+create table import_checkpoint (
+    job_name    varchar(100) not null,
+    line_number bigint       not null,
+    primary key (job_name)
+);
+
+create table import_id_mapping (
+    import_id_mapping_id bigint       not null,
+    job_name             varchar(100) not null,
+    record_type          varchar(20)  not null,
+    legacy_id            bigint       not null,
+    new_id               bigint       not null,
+    primary key (import_id_mapping_id),
+    constraint uk_import_id_mapping unique (job_name, record_type, legacy_id)
+);
@@ -0,0 +1,20 @@
+-- 도메인 이벤트 아웃박스 (OutboxEvent)
+-- ddl-auto 로 이미 만들어진 DB 에서도 실패하지 않도록 있으면 건너뜀
+
+create sequence if not exists outbox_event_seq start with 1 increment by 50;
+
+create table if not exists outbox_event (
+    outbox_event_id bigint       not null,
+    aggregate_type  varchar(30)  not null,
+    aggregate_id    bigint,
+    event_type      varchar(50)  not null,
+    payload         clob         not null,
+    created_date    timestamp    not null,
+    attempts        integer      not null,
+    next_attempt_at timestamp,
+    last_error      varchar(1000),
+    status          varchar(10)  not null,
+    primary key (outbox_event_id)
+);
+
+create index if not exists idx_outbox_event_status on outbox_event (status, outbox_event_id);
@@ -0,0 +1,19 @@
+-- 회원 알림함 (Notification, 답글 알림)
+-- ddl-auto 로 이미 만들어진 DB 에서도 실패하지 않도록 있으면 건너뜀
+
+create sequence if not exists notification_seq start with 1 increment by 50;
+
+create table if not exists notification (
+    notification_id bigint    not null,
+    recipient_id    bigint    not null,
+    post_id         bigint,
+    comment_id      bigint,
+    replier_id      bigint,
+    reply_count     integer   not null,
+    created_date    timestamp not null,
+    last_reply_at   timestamp not null,
+    read_at         timestamp,
+    primary key (notification_id)
+);
+
+create index if not exists idx_notification_recipient on notification (recipient_id, notification_id);
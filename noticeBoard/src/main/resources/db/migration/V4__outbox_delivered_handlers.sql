@@ -0,0 +1,3 @@
+-- 아웃박스 행마다 이미 받은 리스너 (실패한 리스너에게만 다시 전달)
+
+alter table outbox_event add column if not exists delivered_handlers varchar(500);
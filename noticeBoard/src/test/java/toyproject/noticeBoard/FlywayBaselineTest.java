@@ -0,0 +1,40 @@
+package toyproject.noticeBoard;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ddl-auto 로 만들어진 기존 DB 에 fast-start 프로필처럼 baseline-on-migrate 로 스크립트를 적용해도 실패하지 않아야 한다.
+ * (V1 은 건너뛰고, 이미 있는 테이블을 만드는 V2 이후 스크립트는 아무것도 하지 않음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway-baseline;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "comment.compaction.enabled=false"
+})
+class FlywayBaselineTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Test
+    public void ddl_auto_로_만든_DB_에_스크립트_적용() throws Exception {
+        //given
+        Flyway flyway = Flyway.configure().dataSource(dataSource).baselineOnMigrate(true).load();
+
+        //when
+        MigrateResult result = flyway.migrate();
+
+        //then
+        assertThat(result.success).isTrue();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+}
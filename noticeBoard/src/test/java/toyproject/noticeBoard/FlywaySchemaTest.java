@@ -0,0 +1,31 @@
+package toyproject.noticeBoard;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빈 DB 에 db/migration 스크립트만 적용한 스키마가 엔티티와 맞는지 확인한다. (ddl-auto=validate 로 띄움)
+ * 엔티티를 바꾸고 스크립트를 추가하지 않으면 컨텍스트가 뜨지 않아서 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flyway-schema;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "comment.compaction.enabled=false"
+})
+class FlywaySchemaTest {
+
+    @Autowired
+    Flyway flyway;
+
+    @Test
+    public void 버전별_스키마가_엔티티와_일치() throws Exception {
+        //then
+        assertThat(flyway.info().applied()).isNotEmpty();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+}
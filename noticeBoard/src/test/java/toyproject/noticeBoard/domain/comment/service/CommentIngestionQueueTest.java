@@ -0,0 +1,102 @@
+package toyproject.noticeBoard.domain.comment.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentIngestionRequest;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.member.service.MemberWithdrawalJob;
+import toyproject.noticeBoard.domain.member.service.WithdrawalProgress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쓰기 스레드가 별도의 트랜잭션으로 커밋하므로 @Transactional 을 붙이지 않고, 저장된 댓글은 직접 지운다. (회원은 회원탈퇴로)
+ */
+@SpringBootTest(properties = {
+        "comment.ingestion.enabled=true",
+        "comment.ingestion.max-batch-size=10",
+        "comment.ingestion.max-latency-ms=50"
+})
+class CommentIngestionQueueTest {
+
+    @Autowired
+    CommentIngestionQueue commentIngestionQueue;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberWithdrawalJob memberWithdrawalJob;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    List<Long> savedIds = new ArrayList<>();
+    Member writer;
+
+    @AfterEach
+    public void after() {
+        commentRepository.deleteAllById(savedIds);
+        if (writer != null) {
+            memberWithdrawalJob.withdraw(new WithdrawalProgress(writer.getId()));
+        }
+    }
+
+    @Test
+    public void 대기열로_댓글_저장_요청마다_id_반환() throws Exception {
+        //given
+        List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 25; i++) {
+            futures.add(commentIngestionQueue.submit(new CommentIngestionRequest(null, null, null, "댓글" + i)));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        //then
+        for (CompletableFuture<Long> future : futures) {
+            savedIds.add(future.get());
+        }
+        assertThat(savedIds).doesNotContainNull().doesNotHaveDuplicates().hasSize(25);
+        assertThat(commentRepository.findAllById(savedIds)).hasSize(25);
+    }
+
+    /**
+     * 댓글 쓰기(CommentService.write)도 대기열을 거쳐서 배치로 저장되어야 함
+     */
+    @Test
+    public void 댓글쓰기는_대기열로_저장() throws Exception {
+        //given
+        String username = "ingestion" + System.nanoTime() % 1_000_000_000;
+        writer = memberRepository.save(Member.builder().username(username).password("123456")
+                .email(username + "@gmail.com").nickname(username).role(RoleType.USER).build());
+        long batchesBefore = meterRegistry.get("comment.ingestion.batch.size").summary().count();
+
+        //when
+        Long commentId = commentService.write(username, null, null, "댓글").get(10, TimeUnit.SECONDS);
+        savedIds.add(commentId);
+
+        //then
+        assertThat(meterRegistry.get("comment.ingestion.batch.size").summary().count()).isGreaterThan(batchesBefore);
+        Comment saved = commentRepository.findById(commentId).orElseThrow();
+        assertThat(saved.getWriter().getId()).isEqualTo(writer.getId());
+    }
+}
@@ -1,21 +1,42 @@
 package toyproject.noticeBoard.domain.comment.service;
 
 import org.assertj.core.api.Assertions;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.dto.CommentSlice;
+import toyproject.noticeBoard.domain.comment.dto.CommentView;
 import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.global.http.ContentVersion;
+import toyproject.noticeBoard.support.CapturedSql;
+import toyproject.noticeBoard.support.SqlCapture;
+import toyproject.noticeBoard.support.SqlCapture.Captured;
+import toyproject.noticeBoard.support.SqlType;
 
 import javax.persistence.EntityManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "comment.compaction.enabled=false"  // 쿼리 수를 세는 동안 스케줄러가 돌지 않도록
+})
 @Transactional
 class CommentServiceTest {
 
@@ -25,6 +46,12 @@ class CommentServiceTest {
     @Autowired
     CommentRepository commentRepository;
 
+    @Autowired
+    CommentCompactionJob commentCompactionJob;
+
+    @Value("${comment.compaction.chunk-size:1000}")
+    int compactionChunkSize;
+
     @Autowired
     EntityManager em;
 
@@ -80,7 +107,7 @@ class CommentServiceTest {
 
     /**
      * 댓글을 삭제하는 경우
-     * 대댓글이 아예 존재하지 않는 경우 : 곧바로 DB 에서 삭제
+     * 대댓글이 아예 존재하지 않는 경우 : 삭제 표시 후 압축 작업에서 DB 에서 삭제
      */
     @Test
     public void 댓글삭제_대댓글이_없는_경우() throws Exception {
@@ -90,6 +117,10 @@ class CommentServiceTest {
         //when
         commentService.remove(commentId);
         clear();
+        assertThat(commentService.findById(commentId).isRemoved()).isTrue();  // 압축 전에는 삭제 표시만
+
+        commentCompactionJob.compact();
+        clear();
 
         //then
         assertThat(commentService.findAll().size()).isSameAs(0);
@@ -135,6 +166,7 @@ class CommentServiceTest {
 
         //when
         commentService.remove(commentId);
+        commentCompactionJob.compact();
         clear();
 
         //then
@@ -194,6 +226,7 @@ class CommentServiceTest {
 
         //when
         commentService.remove(reCommend1Id);
+        commentCompactionJob.compact();
 
         //then
         LongStream.rangeClosed(commentId, reCommend3Id).forEach(
@@ -224,6 +257,7 @@ class CommentServiceTest {
 
         //when
         commentService.remove(reCommend2Id);
+        commentCompactionJob.compact();
         assertThat(commentService.findById(commentId)).isNotNull();
 
         //then
@@ -233,4 +267,528 @@ class CommentServiceTest {
         assertThat(commentService.findById(reCommend3Id).getId()).isNotNull();
         assertThat(commentService.findById(commentId).getId()).isNotNull();
     }
-}
\ No newline at end of file
+
+    // 게시글에 작성자가 있는 댓글 달기
+    private Comment saveComment(Post post, Member writer, Comment parent) {
+        Comment comment = Comment.builder().post(post).writer(writer).parent(parent).content("댓글").build();
+        em.persist(comment);
+        return comment;
+    }
+
+    private Member saveMember() {
+        Member member = Member.builder().username("user1").password("123456").email("kdzeor0317@gmail.com").nickname("Nick1").role(RoleType.USER).build();
+        em.persist(member);
+        return member;
+    }
+
+    private Post savePost() {
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        return post;
+    }
+
+    /**
+     * 댓글 쓰기 (comment.ingestion.enabled=false)
+     * 대기열 없이 같은 트랜잭션에서 저장하고, 완료된 future 로 댓글 id 를 돌려줘야 함
+     */
+    @Test
+    public void 댓글쓰기_대기열이_없으면_바로_저장() throws Exception {
+        //given
+        Member writer = saveMember();
+        Post post = savePost();
+        Comment parent = saveComment(post, writer, null);
+        clear();
+
+        //when
+        CompletableFuture<Long> future = commentService.write("user1", post.getId(), parent.getId(), "대댓글");
+        clear();
+
+        //then
+        assertThat(future).isDone();
+        Comment saved = commentService.findById(future.get());
+        assertThat(saved.getContent()).isEqualTo("대댓글");
+        assertThat(saved.getWriter().getId()).isEqualTo(writer.getId());
+        assertThat(saved.getParent().getId()).isEqualTo(parent.getId());
+        assertThrows(IllegalArgumentException.class, () -> commentService.write("user1", post.getId(), null, " "));
+    }
+
+    /**
+     * 게시글의 댓글 트리 조회
+     * 댓글은 작성 순서대로, 대댓글은 부모 댓글 밑에 작성 순서대로
+     * 삭제된 댓글은 "삭제된 댓글입니다." 로 표시
+     */
+    @Test
+    public void 댓글트리_조회() throws Exception {
+        //given
+        Member writer = saveMember();
+        Post post = savePost();
+        Comment comment1 = saveComment(post, writer, null);
+        Comment comment2 = saveComment(post, writer, null);
+        Comment reComment1 = saveComment(post, writer, comment1);
+        Comment reComment2 = saveComment(post, writer, comment1);
+        comment2.remove();
+        clear();
+
+        //when
+        List<CommentView> tree = commentService.findTreeByPostId(post.getId());
+
+        //then
+        assertThat(tree).extracting(CommentView::id).containsExactly(comment1.getId(), comment2.getId());
+        assertThat(tree.get(0).replies()).extracting(CommentView::id).containsExactly(reComment1.getId(), reComment2.getId());
+        assertThat(tree.get(0).writerNickname()).isEqualTo("Nick1");
+        assertThat(tree.get(1).removed()).isTrue();
+        assertThat(tree.get(1).content()).isEqualTo(CommentView.REMOVED_CONTENT);
+        assertThat(tree.get(1).replies()).isEmpty();
+    }
+
+    /**
+     * 게시글의 댓글 트리 조회
+     * 댓글 수와 상관없이 쿼리는 1번만 나가야 함 (N+1 X)
+     */
+    @Test
+    public void 댓글트리_조회_쿼리_1번() throws Exception {
+        //given
+        Member writer = saveMember();
+        Post post = savePost();
+        for (int i = 0; i < 30; i++) {
+            Comment comment = saveComment(post, writer, null);
+            saveComment(post, writer, comment);
+            saveComment(post, writer, comment);
+        }
+        clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Captured<List<CommentView>> captured = SqlCapture.call(() -> commentService.findTreeByPostId(post.getId()));
+        List<CommentView> tree = captured.value();
+
+        //then
+        assertThat(tree).hasSize(30);
+        assertThat(tree).allSatisfy(comment -> assertThat(comment.replies()).hasSize(2));
+        captured.sql().expectTotal(1).expect(SqlType.SELECT, 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+    }
+
+    /**
+     * 댓글 트리 검증자 (ETag)
+     * 댓글 수와 상관없이 집계 쿼리 1번, 바뀐 것이 없으면 같은 값
+     */
+    @Test
+    public void 댓글트리_검증자_쿼리_1번() throws Exception {
+        //given
+        Member writer = saveMember();
+        Post post = savePost();
+        for (int i = 0; i < 30; i++) {
+            saveComment(post, writer, saveComment(post, writer, null));
+        }
+        clear();
+
+        //when
+        Captured<ContentVersion> captured = SqlCapture.call(() -> commentService.findTreeVersion(post.getId()));
+
+        //then
+        captured.sql().expectTotal(1).expect(SqlType.SELECT, 1);
+        assertThat(captured.value().etag()).startsWith("\"60-");
+        assertThat(commentService.findTreeVersion(post.getId())).isEqualTo(captured.value());
+    }
+
+    /**
+     * 댓글 트리 검증자 (ETag)
+     * 댓글을 달거나 삭제 표시하면 값이 바뀌어야 함 (삭제 표시는 벌크 UPDATE 라서 수정 시간을 직접 바꿈)
+     * 압축(DB 삭제)은 수정 시간을 바꾸지 않으므로 Last-Modified 없이 ETag 로만 비교
+     */
+    @Test
+    public void 댓글을_달거나_삭제하면_트리_검증자가_바뀜() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        clear();
+        ContentVersion before = commentService.findTreeVersion(post.getId());
+
+        //when
+        saveComment(post, null, null);
+        clear();
+        ContentVersion afterSave = commentService.findTreeVersion(post.getId());
+        commentService.remove(comment.getId());
+        clear();
+        ContentVersion afterRemove = commentService.findTreeVersion(post.getId());
+
+        //then
+        assertThat(afterSave.etag()).isNotEqualTo(before.etag());
+        assertThat(afterRemove.etag()).isNotEqualTo(afterSave.etag());
+        assertThat(afterRemove.lastModified()).isNull();
+    }
+
+    /**
+     * 댓글을 삭제하는 경우
+     * 삭제 요청은 대댓글 수와 상관없이 댓글 하나를 잠그고 조회 1번, UPDATE 1번, 이벤트 INSERT 1번
+     * (이벤트 id 시퀀스 조회는 50번에 한 번)
+     */
+    @Test
+    public void 댓글삭제_쿼리_3번() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        for (int i = 0; i < 100; i++) {
+            saveComment(post, null, comment);
+        }
+        clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        CapturedSql sql = SqlCapture.run(() -> {
+            commentService.remove(comment.getId());
+            em.flush();
+        });
+
+        //then
+        sql.expect(SqlType.SELECT, 1)
+                .expect(SqlType.UPDATE, 1)
+                .expect(SqlType.INSERT, 1)
+                .expectAtMost(SqlType.OTHER, 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);  // 지울 댓글만 (대댓글은 불러오지 않음)
+    }
+
+    /**
+     * 댓글을 지워도 2차 캐시의 comment 영역에서는 그 댓글만 빠지고, 다른 댓글은 남아있어야 함
+     */
+    @Test
+    public void 댓글삭제_다른_댓글은_2차_캐시에_남음() throws Exception {
+        //given
+        Long cachedId = saveComment();
+        Long removedId = saveComment();
+        em.find(Comment.class, cachedId);  // 2차 캐시에 넣음
+        clear();
+        Cache cache = em.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(Comment.class, cachedId)).isTrue();
+
+        //when
+        commentService.remove(removedId);
+        clear();
+
+        //then
+        assertThat(cache.containsEntity(Comment.class, cachedId)).isTrue();
+        assertThat(commentService.findById(removedId).isRemoved()).isTrue();
+    }
+
+    @Test
+    public void 오류_없는_댓글_삭제() throws Exception {
+        //when, then
+        assertThat(assertThrows(Exception.class, () -> commentService.remove(-1L)).getMessage()).isEqualTo("댓글이 없습니다.");
+    }
+
+    /**
+     * 압축 작업
+     * 대댓글이 수천 개여도 연관관계를 따라가지 않고 스레드마다 일정한 수의 쿼리로 삭제해야 함
+     * (삭제 표시 수, id 범위, 범위마다 루트 조회, 스레드마다 삭제되지 않은 댓글 확인 + 연결 끊기 + DELETE)
+     * SELECT 는 id 범위 수에만 비례하고 대댓글 수와는 상관없어야 함
+     */
+    @Test
+    public void 압축_대댓글이_많아도_쿼리수_일정() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        comment.remove();
+        for (int i = 0; i < 2000; i++) {
+            Comment reComment = saveComment(post, null, comment);
+            reComment.remove();
+        }
+        clear();
+        long idSpan = commentRepository.findMaxId() - commentRepository.findMinId() + 1;
+        int chunks = (int) ((idSpan + compactionChunkSize - 1) / compactionChunkSize);
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Captured<Long> captured = SqlCapture.call(() -> {
+            long deleted = commentCompactionJob.compact();
+            clear();
+            return deleted;
+        });
+
+        //then
+        assertThat(captured.value()).isEqualTo(2001);
+        captured.sql().expect(SqlType.SELECT, 3 + chunks + 1)  // 삭제 표시 수, 최소/최대 id + 범위마다 루트 조회 + 스레드 하나 확인
+                .expect(SqlType.UPDATE, 1)
+                .expect(SqlType.DELETE, 1)
+                .expectNoRepeatsOver(chunks);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        assertThat(commentService.findTreeByPostId(post.getId())).isEmpty();
+    }
+
+    /**
+     * 압축 작업
+     * 스레드에 삭제되지 않은 댓글이 하나라도 있으면 스레드 전체를 남겨둠
+     */
+    @Test
+    public void 압축_삭제되지_않은_댓글이_있는_스레드는_남김() throws Exception {
+        //given
+        Post post = savePost();
+        Comment keptRoot = saveComment(post, null, null);
+        Comment keptReComment = saveComment(post, null, keptRoot);
+        Comment removedRoot = saveComment(post, null, null);
+        Comment removedReComment = saveComment(post, null, removedRoot);
+        keptRoot.remove();
+        removedRoot.remove();
+        removedReComment.remove();
+        clear();
+
+        //when
+        long deleted = commentCompactionJob.compact();
+        clear();
+
+        //then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(commentService.findTreeByPostId(post.getId())).extracting(CommentView::id).containsExactly(keptRoot.getId());
+        assertThat(commentService.findById(keptReComment.getId()).isRemoved()).isFalse();
+    }
+
+    /**
+     * 2차 캐시
+     * 한 번 조회한 댓글과 대댓글 목록은 영속성 컨텍스트를 비워도 DB 를 다시 조회하지 않음
+     */
+    @Test
+    public void 댓글조회_2차캐시() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        saveComment(post, null, comment);
+        clear();
+        commentService.findById(comment.getId()).getChildList().size();  // 캐시에 올림
+        clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Captured<Integer> captured = SqlCapture.call(() -> commentService.findById(comment.getId()).getChildList().size());
+
+        //then
+        assertThat(captured.value()).isEqualTo(1);
+        captured.sql().expectTotal(0);
+        assertThat(statistics.getDomainDataRegionStatistics("comment").getHitCount()).isEqualTo(2);  // 댓글, 대댓글
+        assertThat(statistics.getDomainDataRegionStatistics("comment.childList").getHitCount()).isEqualTo(1);
+    }
+
+    /**
+     * 2차 캐시
+     * 대댓글이 달리면 부모 댓글의 대댓글 목록 캐시가 비워져야 함
+     */
+    @Test
+    public void 대댓글을_달면_대댓글목록_캐시를_비움() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        saveComment(post, null, comment);
+        clear();
+        commentService.findById(comment.getId()).getChildList().size();  // 캐시에 올림
+        clear();
+
+        //when
+        saveComment(post, null, commentService.findById(comment.getId()));
+        clear();
+
+        //then
+        assertThat(commentService.findById(comment.getId()).getChildList()).hasSize(2);
+    }
+
+    /**
+     * 게시글의 댓글을 커서로 나눠서 조회
+     * 대댓글은 포함되지 않고, 마지막 페이지에서는 nextCursor 가 없어야 함
+     */
+    @Test
+    public void 댓글_커서_페이지_조회() throws Exception {
+        //given
+        Post post = savePost();
+        List<Long> commentIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Comment comment = saveComment(post, null, null);
+            commentIds.add(comment.getId());
+            saveComment(post, null, comment);
+        }
+        clear();
+
+        //when
+        CommentSlice first = commentService.findPageByPostId(post.getId(), null, 2);
+        CommentSlice second = commentService.findPageByPostId(post.getId(), first.nextCursor(), 2);
+        CommentSlice last = commentService.findPageByPostId(post.getId(), second.nextCursor(), 2);
+
+        //then
+        assertThat(first.comments()).extracting(CommentView::id).containsExactly(commentIds.get(0), commentIds.get(1));
+        assertThat(second.comments()).extracting(CommentView::id).containsExactly(commentIds.get(2), commentIds.get(3));
+        assertThat(last.comments()).extracting(CommentView::id).containsExactly(commentIds.get(4));
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.hasNext()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    public void 대댓글_커서_페이지_조회() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        List<Long> reCommentIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            reCommentIds.add(saveComment(post, null, comment).getId());
+        }
+        clear();
+
+        //when
+        CommentSlice first = commentService.findReplyPage(post.getId(), comment.getId(), null, 2);
+        CommentSlice last = commentService.findReplyPage(post.getId(), comment.getId(), first.nextCursor(), 2);
+
+        //then
+        assertThat(first.comments()).extracting(CommentView::id).containsExactly(reCommentIds.get(0), reCommentIds.get(1));
+        assertThat(last.comments()).extracting(CommentView::id).containsExactly(reCommentIds.get(2));
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    /**
+     * 댓글 경로
+     * 루트 댓글부터 자신까지의 id 를 고정 길이로 이어붙인 값
+     */
+    @Test
+    public void 댓글경로_부모경로에_자신의_id를_붙임() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        Comment reComment = saveComment(post, null, comment);
+        Comment reReComment = saveComment(post, null, reComment);
+        clear();
+
+        //when
+        Comment findComment = commentService.findById(reReComment.getId());
+
+        //then
+        assertThat(findComment.getPath()).isEqualTo(
+                Comment.toPathSegment(comment.getId()) + Comment.toPathSegment(reComment.getId()) + Comment.toPathSegment(reReComment.getId()));
+        assertThat(findComment.getRootPath()).isEqualTo(Comment.toPathSegment(comment.getId()));
+        assertThat(findComment.getDepth()).isEqualTo(2);
+    }
+
+    /**
+     * 스레드 조회
+     * 경로 접두사 범위 검색 한 번으로 댓글 아래의 모든 대댓글을 깊이와 상관없이 가져옴
+     */
+    @Test
+    public void 스레드_조회() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        Comment reComment1 = saveComment(post, null, comment);
+        Comment reComment2 = saveComment(post, null, comment);
+        Comment reReComment = saveComment(post, null, reComment1);
+        Comment otherComment = saveComment(post, null, null);
+        clear();
+
+        //when
+        Captured<List<CommentView>> captured = SqlCapture.call(() -> commentService.findThread(comment.getId()));
+        List<CommentView> thread = captured.value();
+
+        //then
+        captured.sql().expectTotal(2).expect(SqlType.SELECT, 2);  // 경로 조회, 접두사 범위 검색
+        assertThat(thread).extracting(CommentView::id).containsExactly(comment.getId());
+        assertThat(thread.get(0).replies()).extracting(CommentView::id).containsExactly(reComment1.getId(), reComment2.getId());
+        assertThat(thread.get(0).replies().get(0).replies()).extracting(CommentView::id).containsExactly(reReComment.getId());
+        assertThat(commentService.findThread(reComment1.getId())).extracting(CommentView::id).containsExactly(reComment1.getId());
+        assertThat(commentService.findThread(otherComment.getId()).get(0).replies()).isEmpty();
+    }
+
+    /**
+     * 3단계 이상의 스레드를 삭제하는 경우
+     * 스레드의 모든 댓글이 삭제되기 전까지는 DB 에서 지우지 않고, 마지막 댓글이 삭제되면 스레드 전체를 지움
+     */
+    @Test
+    public void 댓글삭제_깊은_스레드() throws Exception {
+        //given
+        Post post = savePost();
+        Comment comment = saveComment(post, null, null);
+        Comment reComment = saveComment(post, null, comment);
+        Comment reReComment = saveComment(post, null, reComment);
+        Comment otherComment = saveComment(post, null, null);
+        clear();
+
+        //when
+        commentService.remove(comment.getId());
+        commentService.remove(reComment.getId());
+        commentCompactionJob.compact();
+        clear();
+
+        //then
+        assertThat(commentService.findThread(comment.getId()).get(0).replies().get(0).replies()).hasSize(1);
+
+        //when
+        commentService.remove(reReComment.getId());
+        commentCompactionJob.compact();
+        clear();
+
+        //then
+        for (Long id : List.of(comment.getId(), reComment.getId(), reReComment.getId())) {
+            assertThat(assertThrows(Exception.class, () -> commentService.findById(id)).getMessage()).isEqualTo("댓글이 없습니다.");
+        }
+        assertThat(commentService.findById(otherComment.getId())).isNotNull();
+    }
+
+    @Test
+    public void 오류_없는_댓글의_스레드_조회() throws Exception {
+        //when, then
+        assertThat(assertThrows(Exception.class, () -> commentService.findThread(-1L)).getMessage()).isEqualTo("댓글이 없습니다.");
+    }
+
+    /**
+     * 댓글 10,000 개, 8단계 스레드
+     * 연관관계(childList)를 따라가면 자식이 있는 댓글마다 쿼리가 나가고, 경로 범위 검색은 쿼리 2번으로 스레드 전체를 읽어야 함
+     * 경로 접두사 삭제(압축)로 스레드 전체가 지워져야 함
+     * ./gradlew performanceTest 로 실행
+     */
+    @Test
+    @Tag("performance")
+    public void 스레드_댓글_1만개_연관관계_조회와_경로조회_비교() throws Exception {
+        //given
+        Post post = savePost();
+        List<Comment> thread = new ArrayList<>();
+        thread.add(saveComment(post, null, null));
+        for (int i = 1; i < 10_000; i++) {
+            Comment reComment = saveComment(post, null, thread.get((i - 1) / 4));  // 자식 4개씩 -> 8단계
+            reComment.remove();
+            thread.add(reComment);
+        }
+        Long rootId = thread.get(0).getId();
+        clear();
+
+        //when
+        Captured<Integer> walked = SqlCapture.call(() -> countByWalking(em.find(Comment.class, rootId)));
+        clear();
+
+        Captured<List<CommentView>> found = SqlCapture.call(() -> commentService.findThread(rootId));
+        clear();
+
+        commentService.remove(rootId);
+        commentCompactionJob.compact();
+        clear();
+
+        //then
+        assertThat(walked.value()).isEqualTo(10_000);
+        assertThat(walked.sql().count(SqlType.SELECT)).isGreaterThanOrEqualTo(2_500);  // 자식이 있는 댓글 2,500 개
+
+        assertThat(countByView(found.value().get(0))).isEqualTo(10_000);
+        found.sql().expectTotal(2);  // 경로 조회 + 범위 검색
+
+        assertThat(commentService.findTreeByPostId(post.getId())).isEmpty();
+    }
+
+    private int countByWalking(Comment comment) {
+        return 1 + comment.getChildList().stream().mapToInt(this::countByWalking).sum();
+    }
+
+    private int countByView(CommentView view) {
+        return 1 + view.replies().stream().mapToInt(this::countByView).sum();
+    }
+
+    @Test
+    public void 오류_잘못된_커서() throws Exception {
+        //when, then
+        assertThrows(IllegalArgumentException.class, () -> commentService.findPageByPostId(1L, "잘못된커서", 10));
+    }
+}
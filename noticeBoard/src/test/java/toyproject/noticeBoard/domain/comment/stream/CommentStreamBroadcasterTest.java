@@ -0,0 +1,185 @@
+package toyproject.noticeBoard.domain.comment.stream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.controller.CommentController;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.comment.service.CommentService;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * 커밋된 뒤에 이벤트가 전달되므로 @Transactional 을 붙이지 않고, 저장된 데이터는 직접 지운다.
+ * 보안 필터 없이 컨트롤러만 띄워서 SSE 응답 내용을 확인한다.
+ */
+@SpringBootTest
+class CommentStreamBroadcasterTest {
+
+    @Autowired
+    CommentStreamBroadcaster commentStreamBroadcaster;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    MockMvc mockMvc;
+    Post post;
+    List<Long> savedCommentIds = new ArrayList<>();
+    List<MvcResult> subscriptions = new ArrayList<>();
+
+    @BeforeEach
+    public void init() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new CommentController(commentService, commentStreamBroadcaster)).build();
+        post = postRepository.save(Post.builder().title("제목").content("내용").build());
+    }
+
+    @AfterEach
+    public void after() {
+        subscriptions.forEach(result -> result.getRequest().getAsyncContext().complete());  // 구독 해제
+        commentRepository.deleteAllById(savedCommentIds);
+        postRepository.deleteById(post.getId());
+    }
+
+    private MvcResult subscribe(Long postId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/posts/{postId}/comments/stream", postId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        subscriptions.add(result);
+        return result;
+    }
+
+    private Comment saveComment(String content) {
+        Comment comment = Comment.builder().post(post).content(content).build();
+        commentService.save(comment);
+        savedCommentIds.add(comment.getId());
+        return comment;
+    }
+
+    // sender 스레드가 보낼 때까지 기다린다
+    private String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString(StandardCharsets.UTF_8);
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString(StandardCharsets.UTF_8);
+        }
+        return content;
+    }
+
+    @Test
+    public void 커밋된_댓글이_구독자에게_전달() throws Exception {
+        //given
+        MvcResult first = subscribe(post.getId());
+        MvcResult second = subscribe(post.getId());
+        assertThat(commentStreamBroadcaster.countSubscribers(post.getId())).isEqualTo(2);
+
+        //when
+        Comment comment = saveComment("새 댓글");
+
+        //then
+        for (MvcResult result : List.of(first, second)) {
+            String content = awaitContent(result.getResponse(), "새 댓글");
+            assertThat(content).contains("event:created");
+            assertThat(content).contains("id:" + comment.getId());
+            assertThat(content).contains("새 댓글");
+        }
+    }
+
+    @Test
+    public void 삭제된_댓글이_구독자에게_전달() throws Exception {
+        //given
+        Comment comment = saveComment("지울 댓글");
+        MvcResult result = subscribe(post.getId());
+
+        //when
+        commentService.remove(comment.getId());
+
+        //then
+        String content = awaitContent(result.getResponse(), "event:removed");
+        assertThat(content).contains("event:removed");
+        assertThat(content).contains("id:" + comment.getId());
+    }
+
+    @Test
+    public void 다른_게시글의_댓글은_전달되지_않음() throws Exception {
+        //given
+        MvcResult result = subscribe(-1L);
+
+        //when
+        saveComment("다른 게시글 댓글");
+        Thread.sleep(200);
+
+        //then
+        assertThat(result.getResponse().getContentAsString(StandardCharsets.UTF_8)).doesNotContain("event:created");
+    }
+
+    /**
+     * sender 스레드가 1개일 때 전송이 멈춘 구독자가 있어도, send-timeout-ms 뒤에 그 구독을 끊고 다른 게시글의 구독자에게 전달되어야 함
+     */
+    @Test
+    public void 전송이_멈춘_구독자가_다른_구독자를_막지_않음() throws Exception {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommentStreamBroadcaster broadcaster = new CommentStreamBroadcaster(64, 60_000, 3600, 1, 100, 4, meterRegistry);
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        try {
+            broadcaster.subscribe(1L, new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) throws IOException {
+                    try {
+                        unblock.await();  // 멈춘 클라이언트
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("연결이 끊어졌습니다.");
+                }
+            });
+            broadcaster.subscribe(2L, new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    delivered.countDown();  // 처음 보내는 "connected" 프레임
+                }
+            });
+
+            //when
+            boolean sent = delivered.await(5, TimeUnit.SECONDS);
+
+            //then
+            assertThat(sent).isTrue();
+            assertThat(broadcaster.countSubscribers(1L)).isEqualTo(0);
+            assertThat(broadcaster.countSubscribers(2L)).isEqualTo(1);
+            assertThat(meterRegistry.get("comment.stream.stalled").counter().count()).isEqualTo(1);
+        } finally {
+            unblock.countDown();
+            broadcaster.shutdown();
+        }
+    }
+}
@@ -7,6 +7,9 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import toyproject.noticeBoard.domain.member.Member;
 import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.support.CapturedSql;
+import toyproject.noticeBoard.support.SqlCapture;
+import toyproject.noticeBoard.support.SqlType;
 
 import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
@@ -50,6 +53,25 @@ class MemberRepositoryTest {
         assertThat(findMember).isSameAs(member);
     }
 
+    /**
+     * 새 회원 저장은 중복 확인 조회 없이 INSERT 1번 (시퀀스 조회는 allocationSize 마다 한 번이므로 세지 않음)
+     */
+    @Test
+    public void 회원가입_INSERT_1번() throws Exception {
+        //given
+        Member member = Member.builder().username("user1").password("123456").email("kdzeor0317@gmail.com").nickname("Nick1").role(RoleType.USER).build();
+
+        //when
+        CapturedSql sql = SqlCapture.run(() -> {
+            memberRepository.save(member);
+            em.flush();
+        });
+
+        //then
+        sql.expect(SqlType.INSERT, 1)
+                .expect(SqlType.SELECT, 0);
+    }
+
     @Test
     public void 오류_회원가입시_아이디가_없음() throws Exception {
         //given
@@ -108,11 +130,14 @@ class MemberRepositoryTest {
 
         //when
         Member findMember = memberRepository.findById(member1.getId()).orElseThrow(() -> new Exception());
-        findMember.updatePassword(passwordEncoder, updatePassword);
-        findMember.updateNickname(updateNickname);
-        em.flush();
+        CapturedSql sql = SqlCapture.run(() -> {
+            findMember.updatePassword(passwordEncoder, updatePassword);
+            findMember.updateNickname(updateNickname);
+            em.flush();
+        });
 
         //then
+        sql.expectTotal(1).expect(SqlType.UPDATE, 1);  // 바뀐 필드가 여러 개여도 UPDATE 1번
         Member findUpdateMember = memberRepository.findById(findMember.getId()).orElseThrow(() -> new Exception());
 
         assertThat(findMember).isSameAs(findUpdateMember);
@@ -128,10 +153,14 @@ class MemberRepositoryTest {
          clear();
          
          //when
-         memberRepository.delete(member1);
-         clear();
+         CapturedSql sql = SqlCapture.run(() -> {
+             memberRepository.delete(member1);
+             clear();
+         });
          
          //then
+         sql.expect(SqlType.DELETE, 1)
+                 .expectAtMost(SqlType.SELECT, 3);  // 회원 조회, cascade 로 게시글, 댓글 목록 조회
          assertThrows(Exception.class, () -> memberRepository.findById(member1.getId()).orElseThrow(() -> new Exception()));
       }
       
@@ -144,8 +173,10 @@ class MemberRepositoryTest {
           clear();
           
           //when, then
-          assertThat(memberRepository.existsByUsername(username)).isTrue();
-          assertThat(memberRepository.existsByUsername(username+"123")).isFalse();
+          SqlCapture.run(() -> {
+              assertThat(memberRepository.existsByUsername(username)).isTrue();
+              assertThat(memberRepository.existsByUsername(username+"123")).isFalse();
+          }).expectTotal(2).expect(SqlType.SELECT, 2);  // 회원을 불러오지 않고 존재 여부만 조회
        }
 
        @Test
@@ -176,6 +207,24 @@ class MemberRepositoryTest {
             assertThrows(Exception.class, () -> memberRepository.findByUsername(username+"123").orElseThrow(() -> new Exception()));
          }
 
+         /**
+          * 로그인, JWT 인증마다 부르므로 게시글, 댓글 목록을 함께 불러오지 않고 회원만 1번 조회
+          */
+         @Test
+         public void findByUsername_쿼리_1번() throws Exception {
+             //given
+             String username = "user1";
+             Member member1 = Member.builder().username(username).password("123456").email("kdzeor0317@gmail.com").nickname("Nick1").role(RoleType.USER).build();
+             memberRepository.save(member1);
+             clear();
+
+             //when
+             CapturedSql sql = SqlCapture.run(() -> memberRepository.findByUsername(username).orElseThrow(() -> new Exception()));
+
+             //then
+             sql.expectTotal(1).expect(SqlType.SELECT, 1);
+          }
+
          @Test
          public void 회원가입시_생성시간_등록확인() throws Exception {
              //given
@@ -0,0 +1,156 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.repository.CommentRepository;
+import toyproject.noticeBoard.domain.comment.service.CommentService;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.member.dto.MemberStats;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+import toyproject.noticeBoard.domain.post.service.PostService;
+import toyproject.noticeBoard.global.outbox.OutboxDispatcher;
+
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카운터는 커밋된 이벤트로 모으고, 다시 세기는 다른 스레드의 트랜잭션에서 읽으므로 @Transactional 을 붙이지 않는다.
+ * 저장된 데이터는 회원탈퇴로 지운다.
+ * 다른 테스트 컨텍스트의 OutboxDispatcher 가 이벤트를 가져가지 않도록 따로 메모리 DB 를 쓴다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:member-activity;DB_CLOSE_DELAY=-1",
+        "member.activity.flush-interval-ms=3600000",  // 테스트 중에 스케줄러가 먼저 더하지 않도록
+        "outbox.dispatch-interval-ms=3600000"
+})
+class MemberActivityTest {
+
+    @Autowired
+    MemberActivityRecorder memberActivityRecorder;
+
+    @Autowired
+    MemberActivityRecountJob memberActivityRecountJob;
+
+    @Autowired
+    OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    MemberActivityService memberActivityService;
+
+    @Autowired
+    MemberWithdrawalJob memberWithdrawalJob;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    Member member;
+
+    @BeforeEach
+    public void init() {
+        String username = "activity" + System.nanoTime() % 1_000_000_000;
+        member = memberRepository.save(Member.builder().username(username).password("123456")
+                .email(username + "@gmail.com").nickname(username).role(RoleType.USER).build());
+    }
+
+    @AfterEach
+    public void after() {
+        memberWithdrawalJob.withdraw(new WithdrawalProgress(member.getId()));
+    }
+
+    private Post savePost() {
+        Post post = Post.builder().writer(member).title("제목").content("내용").build();
+        postService.save(post);
+        return post;
+    }
+
+    private Comment saveComment(Post post) {
+        Comment comment = Comment.builder().writer(member).post(post).content("댓글").build();
+        commentService.save(comment);
+        return comment;
+    }
+
+    /**
+     * 게시글 2개, 댓글 3개를 쓰고 댓글 1개(두 번), 댓글 1개가 달린 게시글 1개를 지우면
+     * 게시글 1개, 댓글 1개가 남아야 함
+     */
+    @Test
+    public void 글쓰기_삭제가_활동카운터에_반영() throws Exception {
+        //given
+        Post keptPost = savePost();
+        Post removedPost = savePost();
+        Comment removedComment = saveComment(keptPost);
+        saveComment(keptPost);
+        saveComment(removedPost);
+
+        //when
+        commentService.remove(removedComment.getId());
+        commentService.remove(removedComment.getId());  // 이미 삭제된 댓글은 다시 줄지 않음
+        postService.remove(removedPost.getId());
+        outboxDispatcher.dispatch();
+        memberActivityRecorder.flush();
+
+        //then
+        MemberStats stats = memberActivityService.findStats(member.getId());
+        assertThat(stats.postCount()).isEqualTo(1);
+        assertThat(stats.commentCount()).isEqualTo(1);
+        assertThat(stats.lastActivityAt()).isNotNull();
+    }
+
+    @Test
+    public void 활동이_없는_회원은_0() throws Exception {
+        //when
+        MemberStats stats = memberActivityService.findStats(member.getId());
+
+        //then
+        assertThat(stats.postCount()).isEqualTo(0);
+        assertThat(stats.commentCount()).isEqualTo(0);
+        assertThat(stats.lastActivityAt()).isNull();
+    }
+
+    /**
+     * 카운터를 거치지 않고 저장된 데이터(기존 데이터)를 다시 세서 채워야 함 (삭제 표시된 댓글 제외)
+     */
+    @Test
+    public void 다시_세기로_기존_데이터_채우기() throws Exception {
+        //given
+        Post post = postRepository.save(Post.builder().writer(member).title("제목").content("내용").build());
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(Comment.builder().writer(member).post(post).content("댓글").build());
+        }
+        Comment removed = commentRepository.save(Comment.builder().writer(member).post(post).content("댓글").build());
+        transactionTemplate.executeWithoutResult(status -> commentRepository.findForRemoveById(removed.getId()).orElseThrow().remove());
+
+        //when
+        long recounted = memberActivityRecountJob.recount();
+
+        //then
+        MemberStats stats = memberActivityService.findStats(member.getId());
+        assertThat(recounted).isGreaterThanOrEqualTo(1);
+        assertThat(stats.postCount()).isEqualTo(1);
+        assertThat(stats.commentCount()).isEqualTo(3);
+        assertThat(stats.lastActivityAt()).isNotNull();
+    }
+}
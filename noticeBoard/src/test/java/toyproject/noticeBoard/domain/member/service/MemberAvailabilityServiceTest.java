@@ -0,0 +1,121 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.member.dto.MemberAvailability;
+import toyproject.noticeBoard.support.SqlCapture;
+import toyproject.noticeBoard.support.SqlCapture.Captured;
+import toyproject.noticeBoard.support.SqlType;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class MemberAvailabilityServiceTest {
+
+    @Autowired
+    MemberAvailabilityService memberAvailabilityService;
+
+    @Autowired
+    EntityManager em;
+
+    private Member saveMember(String username, String nickname) {
+        Member member = Member.builder().username(username).password("123456").email("kdzeor0317@gmail.com").nickname(nickname).role(RoleType.USER).build();
+        em.persist(member);
+        em.flush();
+        return member;
+    }
+
+    /**
+     * 가입한 적 없는 아이디, 닉네임
+     * 블룸 필터에서 바로 답하므로 쿼리가 나가지 않음
+     */
+    @Test
+    public void 없는_아이디_닉네임은_쿼리없이_사용가능() throws Exception {
+        //given
+        saveMember("user1", "Nick1");
+
+        //when
+        Captured<MemberAvailability> captured = SqlCapture.call(() -> memberAvailabilityService.check("availableUser", "availableNick"));
+        MemberAvailability availability = captured.value();
+
+        //then
+        assertThat(availability.usernameAvailable()).isTrue();
+        assertThat(availability.nicknameAvailable()).isTrue();
+        captured.sql().expectTotal(0);
+    }
+
+    /**
+     * 가입한 아이디, 닉네임
+     * 블룸 필터에 있으면 아이디, 닉네임을 쿼리 한 번으로 함께 확인
+     */
+    @Test
+    public void 가입한_아이디_닉네임은_사용불가() throws Exception {
+        //given
+        saveMember("user1", "Nick1");
+
+        //when
+        Captured<MemberAvailability> captured = SqlCapture.call(() -> memberAvailabilityService.check("user1", "Nick1"));
+        MemberAvailability availability = captured.value();
+
+        //then
+        assertThat(availability.usernameAvailable()).isFalse();
+        assertThat(availability.nicknameAvailable()).isFalse();
+        captured.sql().expectTotal(1).expect(SqlType.SELECT, 1);
+    }
+
+    @Test
+    public void 확인하지_않은_값은_null() throws Exception {
+        //given
+        saveMember("user1", "Nick1");
+
+        //when
+        MemberAvailability availability = memberAvailabilityService.check(null, "Nick1");
+
+        //then
+        assertThat(availability.usernameAvailable()).isNull();
+        assertThat(availability.nicknameAvailable()).isFalse();
+    }
+
+    @Test
+    public void 닉네임을_바꾸면_바뀐_닉네임은_사용불가() throws Exception {
+        //given
+        Member member = saveMember("user1", "Nick1");
+
+        //when
+        member.updateNickname("ChangedNick");
+        em.flush();
+
+        //then
+        assertThat(memberAvailabilityService.check(null, "ChangedNick").nicknameAvailable()).isFalse();
+    }
+
+    /**
+     * 로그인하면 리프레시 토큰만 바뀌어 UPDATE 가 나감
+     * 아이디, 닉네임이 그대로면 필터에 넣지 않아야 함 (필터를 거치지 않고 넣은 회원으로 확인)
+     */
+    @Test
+    public void 토큰만_바뀌면_필터에_넣지_않음() throws Exception {
+        //given
+        em.createNativeQuery("insert into member (member_id, username, email, nickname, role) " +
+                        "values (next value for member_seq, 'tokenUser', 'kdzeor0317@gmail.com', 'TokenNick', 'USER')")
+                .executeUpdate();
+        Member member = em.createQuery("select m from Member m where m.username = 'tokenUser'", Member.class).getSingleResult();
+
+        //when
+        member.updateRefreshToken("refreshToken");
+        em.flush();
+
+        //then
+        Captured<MemberAvailability> captured = SqlCapture.call(() -> memberAvailabilityService.check("tokenUser", "TokenNick"));
+        assertThat(captured.value().usernameAvailable()).isTrue();
+        assertThat(captured.value().nicknameAvailable()).isTrue();
+        captured.sql().expectTotal(0);
+    }
+}
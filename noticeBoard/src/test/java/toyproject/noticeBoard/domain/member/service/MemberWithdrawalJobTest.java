@@ -0,0 +1,122 @@
+package toyproject.noticeBoard.domain.member.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.post.Post;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "member.withdrawal.chunk-size=2")
+@Transactional
+class MemberWithdrawalJobTest {
+
+    @Autowired
+    MemberWithdrawalJob memberWithdrawalJob;
+
+    @Autowired
+    EntityManager em;
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private Member saveMember(String username) {
+        Member member = Member.builder().username(username).password("123456").email(username + "@gmail.com").nickname(username).role(RoleType.USER).build();
+        em.persist(member);
+        return member;
+    }
+
+    private Post savePost(Member writer) {
+        Post post = Post.builder().writer(writer).title("제목").content("내용").build();
+        em.persist(post);
+        return post;
+    }
+
+    private Comment saveComment(Member writer, Post post, Comment parent) {
+        Comment comment = Comment.builder().writer(writer).post(post).parent(parent).content("댓글").build();
+        em.persist(comment);
+        return comment;
+    }
+
+    /**
+     * 탈퇴한 회원의 게시글(과 달린 모든 댓글), 회원이 쓴 댓글(과 달린 대댓글)이 삭제되고
+     * 다른 회원의 게시글은 남아있어야 함
+     */
+    @Test
+    public void 회원탈퇴_게시글_댓글_청크삭제() throws Exception {
+        //given
+        Member withdrawMember = saveMember("user1");
+        Member otherMember = saveMember("user2");
+
+        Post withdrawPost = savePost(withdrawMember);
+        for (int i = 0; i < 3; i++) {
+            Comment comment = saveComment(otherMember, withdrawPost, null);
+            saveComment(otherMember, withdrawPost, comment);
+        }
+
+        Post otherPost = savePost(otherMember);
+        Comment withdrawComment = saveComment(withdrawMember, otherPost, null);
+        saveComment(otherMember, otherPost, withdrawComment);
+        Comment otherComment = saveComment(otherMember, otherPost, null);
+        saveComment(withdrawMember, otherPost, otherComment);
+        clear();
+
+        WithdrawalProgress progress = new WithdrawalProgress(withdrawMember.getId());
+
+        //when
+        memberWithdrawalJob.withdraw(progress);
+        clear();
+
+        //then
+        assertThat(progress.getStatus()).isEqualTo(WithdrawalProgress.Status.COMPLETED);
+        assertThat(progress.getDeletedPostCount()).isEqualTo(1);
+        assertThat(progress.getDeletedCommentCount()).isEqualTo(9);
+
+        assertThat(em.find(Member.class, withdrawMember.getId())).isNull();
+        assertThat(em.find(Post.class, withdrawPost.getId())).isNull();
+        assertThat(em.find(Post.class, otherPost.getId())).isNotNull();
+        assertThat(em.find(Comment.class, otherComment.getId())).isNotNull();
+        assertThat(em.find(Comment.class, otherComment.getId()).getChildList()).isEmpty();
+    }
+
+    /**
+     * 회원 댓글 아래에 회원 대댓글이 또 있는 경우 (청크 크기 2)
+     * 바깥 댓글의 서브트리를 지울 때 함께 지워지고, 같은 댓글을 두 번 세지 않아야 함
+     */
+    @Test
+    public void 회원탈퇴_자기_댓글_아래의_자기_대댓글() throws Exception {
+        //given
+        Member withdrawMember = saveMember("user1");
+        Member otherMember = saveMember("user2");
+        Post otherPost = savePost(otherMember);
+
+        Comment root = saveComment(withdrawMember, otherPost, null);
+        Comment reply = saveComment(otherMember, otherPost, root);
+        Comment ownReply = saveComment(withdrawMember, otherPost, reply);
+        saveComment(otherMember, otherPost, ownReply);
+        Comment otherRoot = saveComment(otherMember, otherPost, null);
+        Comment lastOwn = saveComment(withdrawMember, otherPost, otherRoot);
+        clear();
+
+        WithdrawalProgress progress = new WithdrawalProgress(withdrawMember.getId());
+
+        //when
+        memberWithdrawalJob.withdraw(progress);
+        clear();
+
+        //then
+        assertThat(progress.getStatus()).isEqualTo(WithdrawalProgress.Status.COMPLETED);
+        assertThat(progress.getDeletedCommentCount()).isEqualTo(5);
+        assertThat(em.find(Comment.class, root.getId())).isNull();
+        assertThat(em.find(Comment.class, lastOwn.getId())).isNull();
+        assertThat(em.find(Comment.class, otherRoot.getId())).isNotNull();
+    }
+}
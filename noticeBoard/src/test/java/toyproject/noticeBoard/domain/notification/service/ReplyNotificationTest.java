@@ -0,0 +1,240 @@
+package toyproject.noticeBoard.domain.notification.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.service.CommentService;
+import toyproject.noticeBoard.domain.member.Member;
+import toyproject.noticeBoard.domain.member.RoleType;
+import toyproject.noticeBoard.domain.member.repository.MemberRepository;
+import toyproject.noticeBoard.domain.member.service.MemberWithdrawalJob;
+import toyproject.noticeBoard.domain.member.service.WithdrawalProgress;
+import toyproject.noticeBoard.domain.notification.Notification;
+import toyproject.noticeBoard.domain.notification.dto.NotificationSlice;
+import toyproject.noticeBoard.domain.notification.dto.NotificationView;
+import toyproject.noticeBoard.domain.notification.repository.NotificationRepository;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.service.PostService;
+import toyproject.noticeBoard.global.outbox.DomainEvent;
+import toyproject.noticeBoard.global.outbox.OutboxDispatcher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 알림은 커밋된 답글 이벤트로 만들므로 @Transactional 을 붙이지 않는다. 저장된 데이터는 회원탈퇴로 지운다.
+ * 다른 테스트 컨텍스트의 OutboxDispatcher 가 이벤트를 가져가지 않도록 따로 메모리 DB 를 쓰고, 스케줄러 대신 직접 부른다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reply-notification;DB_CLOSE_DELAY=-1",
+        "outbox.dispatch-interval-ms=3600000",
+        "notification.reply.collapse-window-ms=600000"
+})
+class ReplyNotificationTest {
+
+    @Autowired
+    NotificationService notificationService;
+
+    @Autowired
+    ReplyNotificationEventHandler replyNotificationEventHandler;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    CommentService commentService;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberWithdrawalJob memberWithdrawalJob;
+
+    Member writer;
+    Member replier;
+    Member otherReplier;
+    Post post;
+    Comment parent;
+
+    @BeforeEach
+    public void init() {
+        writer = saveMember("writer");
+        replier = saveMember("replier");
+        otherReplier = saveMember("other");
+
+        post = Post.builder().writer(writer).title("제목").content("내용").build();
+        postService.save(post);
+        parent = saveComment(writer, null);
+    }
+
+    @AfterEach
+    public void after() {
+        for (Member member : List.of(replier, otherReplier, writer)) {
+            memberWithdrawalJob.withdraw(new WithdrawalProgress(member.getId()));
+        }
+    }
+
+    private Member saveMember(String prefix) {
+        String username = prefix + System.nanoTime() % 1_000_000_000;
+        return memberRepository.save(Member.builder().username(username).password("123456")
+                .email(username + "@gmail.com").nickname(username).role(RoleType.USER).build());
+    }
+
+    private Comment saveComment(Member member, Comment parent) {
+        Comment comment = Comment.builder().writer(member).post(post).parent(parent).content("댓글").build();
+        commentService.save(comment);
+        return comment;
+    }
+
+    private void deliver() {
+        outboxDispatcher.dispatch();
+    }
+
+    private List<NotificationView> unread(Member member) {
+        return notificationService.findUnread(member.getUsername(), null, 20).notifications();
+    }
+
+    @Test
+    public void 답글이_달리면_부모_댓글_작성자에게_알림() throws Exception {
+        //given
+        Comment reply = saveComment(replier, parent);
+
+        //when
+        deliver();
+
+        //then
+        List<NotificationView> notifications = unread(writer);
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).commentId()).isEqualTo(reply.getId());
+        assertThat(notifications.get(0).postId()).isEqualTo(post.getId());
+        assertThat(notifications.get(0).replierNickname()).isEqualTo(replier.getNickname());
+        assertThat(notifications.get(0).replyCount()).isEqualTo(1);
+        assertThat(unread(replier)).isEmpty();
+    }
+
+    /**
+     * 범위 안의 답글 3개는 알림 하나로 합치고, 마지막 답글을 보여줘야 함 (배치를 나눠서 넣어도 합침)
+     */
+    @Test
+    public void 범위_안의_답글은_알림_하나로_합침() throws Exception {
+        //given
+        saveComment(replier, parent);
+        saveComment(otherReplier, parent);
+        deliver();
+
+        //when
+        Comment last = saveComment(replier, parent);
+        deliver();
+
+        //then
+        List<NotificationView> notifications = unread(writer);
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).replyCount()).isEqualTo(3);
+        assertThat(notifications.get(0).commentId()).isEqualTo(last.getId());
+    }
+
+    @Test
+    public void 읽은_뒤에_달린_답글은_새_알림() throws Exception {
+        //given
+        saveComment(replier, parent);
+        deliver();
+        notificationService.markRead(writer.getUsername(), unread(writer).get(0).id());
+
+        //when
+        Comment reply = saveComment(otherReplier, parent);
+        deliver();
+
+        //then
+        List<NotificationView> notifications = unread(writer);
+        assertThat(notifications).hasSize(1);
+        assertThat(notifications.get(0).commentId()).isEqualTo(reply.getId());
+        assertThat(notifications.get(0).replyCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void 자기_댓글에_단_답글은_알리지_않음() throws Exception {
+        //given
+        saveComment(writer, parent);
+
+        //when
+        deliver();
+
+        //then
+        assertThat(unread(writer)).isEmpty();
+    }
+
+    /**
+     * 범위(10분)보다 떨어진 답글은 알림이 나뉘고, 최신 알림부터 페이지로 읽어야 함
+     */
+    @Test
+    public void 범위를_넘긴_답글은_알림이_나뉨() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainEvent> replies = List.of(
+                new CommentAdded(-1L, post.getId(), parent.getId(), replier.getId(), now.minusMinutes(30)),
+                new CommentAdded(-2L, post.getId(), parent.getId(), replier.getId(), now.minusMinutes(25)),
+                new CommentAdded(-3L, post.getId(), parent.getId(), otherReplier.getId(), now));
+
+        //when
+        replyNotificationEventHandler.handleBatch(replies);
+
+        //then
+        NotificationSlice first = notificationService.findUnread(writer.getUsername(), null, 1);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.notifications().get(0).commentId()).isEqualTo(-3L);
+
+        NotificationSlice second = notificationService.findUnread(writer.getUsername(), first.nextCursor(), 1);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.notifications().get(0).commentId()).isEqualTo(-2L);
+        assertThat(second.notifications().get(0).replyCount()).isEqualTo(2);
+    }
+
+    /**
+     * 범위 안에 읽지 않은 알림이 둘 있어도 늦게 온 답글은 가장 최근 알림 하나에만 더해야 함
+     */
+    @Test
+    public void 늦게_온_답글은_최근_알림_하나에만_더함() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        Notification older = notificationRepository.save(new Notification(writer.getId(), post.getId(), -1L, replier.getId(), 1,
+                now.minusMinutes(3), now.minusMinutes(3)));
+        Notification newer = notificationRepository.save(new Notification(writer.getId(), post.getId(), -2L, replier.getId(), 1,
+                now.minusMinutes(2), now.minusMinutes(2)));
+
+        //when
+        replyNotificationEventHandler.handleBatch(List.of(
+                new CommentAdded(-3L, post.getId(), parent.getId(), otherReplier.getId(), now.minusMinutes(1))));
+
+        //then
+        assertThat(notificationRepository.findById(older.getId()).orElseThrow().getReplyCount()).isEqualTo(1);
+        assertThat(notificationRepository.findById(newer.getId()).orElseThrow().getReplyCount()).isEqualTo(2);
+        assertThat(notificationRepository.findById(newer.getId()).orElseThrow().getCommentId()).isEqualTo(-3L);
+        assertThat(unread(writer)).hasSize(2);
+    }
+
+    @Test
+    public void 다른_회원의_알림은_읽음_처리할_수_없음() throws Exception {
+        //given
+        saveComment(replier, parent);
+        deliver();
+        Long notificationId = unread(writer).get(0).id();
+
+        //when
+        //then
+        assertThrows(Exception.class, () -> notificationService.markRead(replier.getUsername(), notificationId));
+        assertThat(unread(writer)).hasSize(1);
+    }
+}
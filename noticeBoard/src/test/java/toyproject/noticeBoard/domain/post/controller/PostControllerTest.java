@@ -0,0 +1,121 @@
+package toyproject.noticeBoard.domain.post.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.service.HotPostRanking;
+import toyproject.noticeBoard.domain.post.service.PostService;
+import toyproject.noticeBoard.support.CapturedSql;
+import toyproject.noticeBoard.support.SqlCapture;
+import toyproject.noticeBoard.support.SqlType;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 보안 필터 없이 컨트롤러만 띄워서 조건부 GET 응답을 확인한다.
+ */
+@SpringBootTest
+@Transactional
+class PostControllerTest {
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    HotPostRanking hotPostRanking;
+
+    @Autowired
+    EntityManager em;
+
+    MockMvc mockMvc;
+
+    @BeforeEach
+    public void init() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new PostController(postService, hotPostRanking)).build();
+    }
+
+    private Post savePost() {
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        em.flush();
+        em.clear();
+        return post;
+    }
+
+    private String etag(Long postId) throws Exception {
+        return mockMvc.perform(get("/posts/{postId}", postId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    @Test
+    public void 게시글조회_ETag_LastModified() throws Exception {
+        //given
+        Post post = savePost();
+
+        //when, then
+        mockMvc.perform(get("/posts/{postId}", post.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.title").value("제목"));
+    }
+
+    /**
+     * 바뀌지 않은 게시글을 다시 조회하면 본문을 불러오지 않고 수정 시간 조회 1번 후 304
+     */
+    @Test
+    public void 바뀌지_않은_게시글은_304_쿼리_1번() throws Exception {
+        //given
+        Post post = savePost();
+        String etag = etag(post.getId());
+        em.clear();
+
+        //when
+        CapturedSql sql = SqlCapture.run(() -> mockMvc.perform(get("/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string("")));
+
+        //then
+        sql.expectTotal(1).expect(SqlType.SELECT, 1);
+    }
+
+    @Test
+    public void 수정된_게시글은_새_ETag_로_200() throws Exception {
+        //given
+        Post post = savePost();
+        String etag = etag(post.getId());
+
+        //when
+        em.find(Post.class, post.getId()).updateTitle("수정된 제목");
+        em.flush();
+        em.clear();
+
+        //then
+        String newEtag = mockMvc.perform(get("/posts/{postId}", post.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    public void 오류_없는_게시글_조회() throws Exception {
+        //when, then
+        mockMvc.perform(get("/posts/{postId}", -1L))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,197 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.domain.post.dto.HotPost;
+import toyproject.noticeBoard.domain.post.dto.HotPostSnapshot;
+import toyproject.noticeBoard.domain.post.repository.PostRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 순위는 다른 트랜잭션에서 제목을 조회하므로 @Transactional 을 붙이지 않고, 저장된 게시글은 직접 지운다.
+ * 다른 테스트 컨텍스트의 이벤트가 점수에 섞이지 않도록 따로 메모리 DB 를 쓰고, 스케줄러 대신 refresh 를 직접 부른다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hot-post;DB_CLOSE_DELAY=-1",
+        "post.hot.refresh-interval-ms=3600000",
+        "post.hot.size=2",
+        "post.hot.half-life-minutes=60",
+        "post.hot.warm-up-hours=0"
+})
+class HotPostRankingTest {
+
+    @Autowired
+    HotPostRanking hotPostRanking;
+
+    @Autowired
+    PostRepository postRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    List<Long> savedPostIds = new ArrayList<>();
+
+    @AfterEach
+    public void after() {
+        transactionTemplate.executeWithoutResult(status -> postRepository.bulkDeleteByIds(savedPostIds));
+        savedPostIds.forEach(hotPostRanking::remove);
+        hotPostRanking.refresh();
+    }
+
+    private Long savePost(String title) {
+        Post post = postRepository.save(Post.builder().title(title).content("내용").build());
+        savedPostIds.add(post.getId());
+        return post.getId();
+    }
+
+    private void comment(Long postId, int count, LocalDateTime at) {
+        for (int i = 0; i < count; i++) {
+            hotPostRanking.recordComment(postId, at);
+        }
+    }
+
+    private void view(Long postId, int count) {
+        for (int i = 0; i < count; i++) {
+            hotPostRanking.recordView(postId);
+        }
+    }
+
+    private List<Long> rankedIds(HotPostSnapshot snapshot) {
+        return snapshot.posts().stream().map(HotPost::postId).toList();
+    }
+
+    /**
+     * 댓글 3점, 조회 1점으로 점수가 높은 순서대로 size(2) 개만 보여야 함
+     */
+    @Test
+    public void 댓글과_조회수로_순위() throws Exception {
+        //given
+        Long first = savePost("댓글 2개");
+        Long second = savePost("조회 4번");
+        Long third = savePost("조회 1번");
+        comment(first, 2, LocalDateTime.now());
+        view(second, 4);
+        view(third, 1);
+
+        //when
+        HotPostSnapshot snapshot = hotPostRanking.refresh();
+
+        //then
+        assertThat(rankedIds(snapshot)).containsExactly(first, second);
+        assertThat(snapshot.posts().get(0).title()).isEqualTo("댓글 2개");
+        assertThat(snapshot.posts().get(0).score()).isCloseTo(6, within(0.01));
+        assertThat(snapshot.posts().get(1).score()).isCloseTo(4, within(0.01));
+    }
+
+    /**
+     * half-life(1시간) 마다 점수가 절반이 되므로, 3시간 전의 댓글 2개(6 / 8)보다 지금 조회 1번이 높아야 함
+     */
+    @Test
+    public void 오래된_활동은_점수가_줄어듦() throws Exception {
+        //given
+        Long old = savePost("오래된 글");
+        Long recent = savePost("최근 글");
+        comment(old, 2, LocalDateTime.now().minusHours(3));
+        view(recent, 1);
+
+        //when
+        HotPostSnapshot snapshot = hotPostRanking.refresh();
+
+        //then
+        assertThat(rankedIds(snapshot)).containsExactly(recent, old);
+        assertThat(snapshot.posts().get(1).score()).isCloseTo(0.75, within(0.01));
+    }
+
+    /**
+     * 지난 순위에 없던 게시글도 새 활동이 쌓이면 순위에 들어가야 함
+     */
+    @Test
+    public void 새_활동으로_순위가_바뀜() throws Exception {
+        //given
+        Long first = savePost("첫 번째");
+        Long second = savePost("두 번째");
+        Long rising = savePost("올라오는 글");
+        comment(first, 2, LocalDateTime.now());
+        view(second, 4);
+        view(rising, 1);
+        hotPostRanking.refresh();
+
+        //when
+        comment(rising, 3, LocalDateTime.now());
+        HotPostSnapshot snapshot = hotPostRanking.refresh();
+
+        //then
+        assertThat(rankedIds(snapshot)).containsExactly(rising, first);
+        assertThat(snapshot.posts().get(0).score()).isCloseTo(10, within(0.01));
+    }
+
+    /**
+     * 순위에 있던 게시글이 지워지면 순위 밖에 있던 게시글이 빈자리를 채워야 함
+     */
+    @Test
+    public void 삭제된_게시글은_빠지고_다음_게시글이_채움() throws Exception {
+        //given
+        Long first = savePost("지울 글");
+        Long second = savePost("두 번째");
+        Long third = savePost("세 번째");
+        comment(first, 2, LocalDateTime.now());
+        view(second, 4);
+        view(third, 1);
+        hotPostRanking.refresh();
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> postRepository.bulkDeleteById(first));
+        hotPostRanking.remove(first);
+        HotPostSnapshot snapshot = hotPostRanking.refresh();
+
+        //then
+        assertThat(rankedIds(snapshot)).containsExactly(second, third);
+    }
+
+    /**
+     * 삭제 이벤트보다 먼저 순위를 계산해도 지워진 게시글은 보이지 않아야 함
+     */
+    @Test
+    public void 삭제_이벤트_전에_지워진_게시글은_보이지_않음() throws Exception {
+        //given
+        Long removed = savePost("지울 글");
+        Long remaining = savePost("남은 글");
+        comment(removed, 2, LocalDateTime.now());
+        view(remaining, 1);
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> postRepository.bulkDeleteById(removed));
+        HotPostSnapshot snapshot = hotPostRanking.refresh();
+
+        //then
+        assertThat(rankedIds(snapshot)).containsExactly(remaining);
+    }
+
+    /**
+     * 요청은 마지막으로 계산한 스냅샷을 그대로 읽고, 활동은 다음 계산에 반영되어야 함
+     */
+    @Test
+    public void 스냅샷은_새로_계산할_때만_바뀜() throws Exception {
+        //given
+        Long postId = savePost("제목");
+        view(postId, 1);
+        HotPostSnapshot refreshed = hotPostRanking.refresh();
+
+        //when
+        view(postId, 1);
+
+        //then
+        assertThat(hotPostRanking.current()).isSameAs(refreshed);
+        assertThat(hotPostRanking.refresh().posts().get(0).score()).isCloseTo(2, within(0.01));
+    }
+}
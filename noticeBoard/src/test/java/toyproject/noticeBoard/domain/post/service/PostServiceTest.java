@@ -0,0 +1,206 @@
+package toyproject.noticeBoard.domain.post.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.domain.post.Post;
+import toyproject.noticeBoard.support.CapturedSql;
+import toyproject.noticeBoard.support.SqlCapture;
+import toyproject.noticeBoard.support.SqlCapture.Captured;
+import toyproject.noticeBoard.support.SqlType;
+
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "comment.compaction.enabled=false"  // 쿼리 수를 세는 동안 스케줄러가 돌지 않도록
+})
+@Transactional
+class PostServiceTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PostServiceTest.class);
+
+    @Autowired
+    PostService postService;
+
+    @Autowired
+    EntityManager em;
+
+    Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void clear() {
+        em.flush();
+        em.clear();
+    }
+
+    private Long savePost() {
+        Post post = Post.builder().title("제목").content("내용").build();
+        em.persist(post);
+        return post.getId();
+    }
+
+    // 댓글 count 개, 각 댓글마다 대댓글 하나씩
+    private void saveComments(Long postId, int count) {
+        Post post = em.getReference(Post.class, postId);
+        for (int i = 0; i < count; i++) {
+            Comment comment = Comment.builder().post(post).content("댓글").build();
+            em.persist(comment);
+            em.persist(Comment.builder().post(post).parent(comment).content("대댓글").build());
+
+            if (i % 500 == 0) {
+                clear();
+                post = em.getReference(Post.class, postId);
+            }
+        }
+        clear();
+    }
+
+    private long countComments(Long postId) {
+        return em.createQuery("select count(c) from Comment c where c.post.id = :postId", Long.class)
+                .setParameter("postId", postId)
+                .getSingleResult();
+    }
+
+    /**
+     * 게시글을 삭제하는 경우
+     * 댓글 수와 상관없이 작성자 조회, 작성자별 댓글 수 조회, 대댓글 연결 끊기, 댓글 삭제, 게시글 삭제, 이벤트 저장 6번의 쿼리만 나가야 함
+     * (이벤트 id 시퀀스 조회는 50번에 한 번)
+     */
+    @Test
+    public void 게시글삭제_댓글수와_상관없이_쿼리_6번() throws Exception {
+        //given
+        Long postId = savePost();
+        saveComments(postId, 100);
+        statistics.clear();
+
+        //when
+        CapturedSql sql = SqlCapture.run(() -> {
+            postService.remove(postId);
+            clear();
+        });
+
+        //then
+        sql.expect(SqlType.SELECT, 2)
+                .expect(SqlType.UPDATE, 1)
+                .expect(SqlType.DELETE, 2)
+                .expect(SqlType.INSERT, 1)
+                .expectAtMost(SqlType.OTHER, 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        assertThat(countComments(postId)).isEqualTo(0);
+        assertThat(em.find(Post.class, postId)).isNull();
+    }
+
+    @Test
+    public void 오류_없는_게시글_삭제() throws Exception {
+        //when, then
+        assertThat(assertThrows(Exception.class, () -> postService.remove(-1L)).getMessage())
+                .isEqualTo("게시글이 없습니다.");
+    }
+
+    /**
+     * 2차 캐시
+     * 한 번 조회한 게시글은 영속성 컨텍스트를 비워도 DB 를 다시 조회하지 않고, 삭제하면 캐시에서도 사라짐
+     */
+    @Test
+    public void 게시글조회_2차캐시() throws Exception {
+        //given
+        Long postId = savePost();
+        clear();
+        postService.findById(postId);  // 캐시에 올림
+        clear();
+        statistics.clear();
+
+        //when
+        Captured<Post> captured = SqlCapture.call(() -> postService.findById(postId));
+
+        //then
+        assertThat(captured.value().getTitle()).isEqualTo("제목");
+        captured.sql().expectTotal(0);
+        assertThat(statistics.getDomainDataRegionStatistics("post").getHitCount()).isEqualTo(1);
+
+        postService.remove(postId);
+        clear();
+        assertThat(assertThrows(Exception.class, () -> postService.findById(postId)).getMessage()).isEqualTo("게시글이 없습니다.");
+    }
+
+    /**
+     * 댓글 50,000 개가 달린 게시글 삭제
+     * cascade(orphanRemoval) 는 댓글을 모두 엔티티로 읽어서 하나씩 지우고, 일괄 삭제는 댓글 수와 상관없이 쿼리 6번으로 지워야 함
+     * ./gradlew performanceTest 로 실행
+     */
+    @Test
+    @Tag("performance")
+    public void 게시글삭제_댓글_5만개_cascade_와_일괄삭제_비교() throws Exception {
+        //given
+        Long cascadePostId = savePost();
+        Long bulkPostId = savePost();
+        saveTopLevelComments(cascadePostId, 50_000);
+        saveTopLevelComments(bulkPostId, 50_000);
+
+        //when
+        statistics.clear();
+        long cascadeStart = System.nanoTime();
+        em.remove(em.find(Post.class, cascadePostId));
+        clear();
+        long cascadeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - cascadeStart);
+        long cascadeLoads = statistics.getEntityLoadCount();
+        long cascadeDeletes = statistics.getEntityDeleteCount();
+
+        statistics.clear();
+        long bulkStart = System.nanoTime();
+        CapturedSql bulkSql = SqlCapture.run(() -> {
+            postService.remove(bulkPostId);
+            clear();
+        });
+        long bulkMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - bulkStart);
+
+        //then
+        log.info("댓글 5만개 게시글 삭제: cascade {} ms (엔티티 {}개 로딩), 일괄삭제 {} ms", cascadeMillis, cascadeLoads, bulkMillis);
+        assertThat(bulkMillis).isLessThan(cascadeMillis);
+
+        assertThat(cascadeLoads).isGreaterThanOrEqualTo(50_000);
+        assertThat(cascadeDeletes).isEqualTo(50_001);  // 댓글 + 게시글
+
+        bulkSql.expect(SqlType.SELECT, 2)
+                .expect(SqlType.UPDATE, 1)
+                .expect(SqlType.DELETE, 2)
+                .expect(SqlType.INSERT, 1)
+                .expectAtMost(SqlType.OTHER, 1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(0);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(0);
+
+        assertThat(countComments(cascadePostId)).isEqualTo(0);
+        assertThat(countComments(bulkPostId)).isEqualTo(0);
+    }
+
+    // cascade 삭제는 대댓글 -> 댓글 순서를 보장하지 않으므로 비교용 데이터는 댓글만 만든다
+    private void saveTopLevelComments(Long postId, int count) {
+        Post post = em.getReference(Post.class, postId);
+        for (int i = 1; i <= count; i++) {
+            em.persist(Comment.builder().post(post).content("댓글").build());
+
+            if (i % 1000 == 0) {
+                clear();
+                post = em.getReference(Post.class, postId);
+            }
+        }
+        clear();
+    }
+}
@@ -0,0 +1,129 @@
+package toyproject.noticeBoard.global.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * api 한도(2)를 처리 중인 요청 2개로 채워두고, 그 다음 요청을 확인한다.
+ * 컨트롤러 대신 filterChain 안에서 기다리게 한다.
+ */
+@SpringBootTest(properties = {
+        "admission.api.initial-limit=2",
+        "admission.api.min-limit=1",
+        "admission.api.max-limit=2",
+        "admission.api.latency-threshold-ms=60000",  // 기다리는 동안 한도가 줄지 않도록
+        "admission.retry-after-seconds=3"
+})
+class AdmissionControlFilterTest {
+
+    @Autowired
+    AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    ExecutorService pool = Executors.newFixedThreadPool(2);
+    CountDownLatch entered = new CountDownLatch(2);
+    CountDownLatch finish = new CountDownLatch(1);
+
+    // api 한도를 채운다
+    @BeforeEach
+    public void fillApiLimit() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            pool.submit(() -> {
+                admissionControlFilter.doFilter(new MockHttpServletRequest("GET", "/posts/1"), new MockHttpServletResponse(), (req, res) -> {
+                    entered.countDown();
+                    try {
+                        finish.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                return null;
+            });
+        }
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        finish.countDown();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private double rejected(String route) {
+        return meterRegistry.get("admission.rejected").tag("route", route).counter().count();
+    }
+
+    // 통과하면 filterChain 이 실행됨
+    private boolean passes(String path, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean passed = new AtomicBoolean();
+        admissionControlFilter.doFilter(new MockHttpServletRequest("GET", path), response, (req, res) -> passed.set(true));
+        return passed.get();
+    }
+
+    @Test
+    public void 한도를_넘는_요청은_바로_503() throws Exception {
+        //given
+        double before = rejected("api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        boolean passed = passes("/posts/2", response);
+
+        //then
+        assertThat(passed).isFalse();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isNotEmpty();
+        assertThat(rejected("api")).isEqualTo(before + 1);
+        assertThat(meterRegistry.get("admission.inflight").tag("route", "api").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("admission.limit").tag("route", "api").gauge().value()).isEqualTo(2);
+    }
+
+    /**
+     * api 한도가 가득 차도 로그인은 따로 세고, actuator 는 제한하지 않아야 함
+     */
+    @Test
+    public void 경로_종류마다_한도를_나눔() throws Exception {
+        //when
+        boolean login = passes("/login", new MockHttpServletResponse());
+        boolean health = passes("/actuator/health", new MockHttpServletResponse());
+
+        //then
+        assertThat(login).isTrue();
+        assertThat(health).isTrue();
+    }
+
+    @Test
+    public void 처리가_끝나면_다시_받음() throws Exception {
+        //given
+        finish.countDown();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+
+        //when
+        boolean passed = passes("/posts/2", new MockHttpServletResponse());
+
+        //then
+        assertThat(passed).isTrue();
+    }
+}
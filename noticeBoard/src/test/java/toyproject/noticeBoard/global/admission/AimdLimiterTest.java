@@ -0,0 +1,158 @@
+package toyproject.noticeBoard.global.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AimdLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    // 하나씩 받았다가 끝냄 (처리 중인 요청이 한도의 절반도 안 됨)
+    private void sequential(AimdLimiter limiter, int count, long latencyNanos) {
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire();
+            limiter.release(latencyNanos);
+        }
+    }
+
+    // 한도만큼 받았다가 모두 빠르게 끝냄
+    private void fullRound(AimdLimiter limiter) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(FAST);
+        }
+    }
+
+    @Test
+    public void 한도만큼만_받음() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 100, 0.5, 10);
+
+        //when
+        boolean first = limiter.tryAcquire();
+        boolean second = limiter.tryAcquire();
+        boolean third = limiter.tryAcquire();
+        limiter.release(FAST);
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    /**
+     * 창(10개)의 p90 이 기준을 넘으면 한도를 절반으로 줄임
+     */
+    @Test
+    public void 느린_요청이_많으면_한도를_줄임() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, 100, 0.5, 10);
+
+        //when
+        sequential(limiter, 8, FAST);
+        sequential(limiter, 2, SLOW);
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(5);
+    }
+
+    /**
+     * 창에서 하나만 느리면 p90 은 빠르므로 줄이지 않음
+     */
+    @Test
+    public void 느린_요청_하나로는_줄이지_않음() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(10, 2, 20, 100, 0.5, 10);
+
+        //when
+        sequential(limiter, 1, SLOW);
+        sequential(limiter, 9, FAST);
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void 최소_한도_아래로_줄지_않음() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(10, 3, 20, 1, 0.5, 10);
+
+        //when
+        sequential(limiter, 50, SLOW);
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    /**
+     * 한도를 채운 요청이 빠르게 끝나면 조금씩 늘어나고, 최대 한도는 넘지 않아야 함
+     */
+    @Test
+    public void 빠른_요청이면_한도를_늘림() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 100, 0.5, 10);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            fullRound(limiter);
+        }
+        int grown = limiter.getLimit();
+        for (int i = 0; i < 1000; i++) {
+            fullRound(limiter);
+        }
+
+        //then
+        assertThat(grown).isGreaterThan(4);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * 한도의 절반도 쓰지 않으면 처음 한도보다 늘리지 않음
+     */
+    @Test
+    public void 한도의_절반도_쓰지_않으면_늘리지_않음() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 100, 0.5, 10);
+
+        //when
+        sequential(limiter, 1000, FAST);
+
+        //then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * 과부하로 줄어든 한도는 요청이 적어도 지연 시간이 정상이면 처음 한도까지 회복함
+     */
+    @Test
+    public void 지연시간이_정상이면_한가해도_처음_한도까지_회복() throws Exception {
+        //given
+        AimdLimiter limiter = new AimdLimiter(10, 1, 20, 100, 0.5, 10);
+        sequential(limiter, 20, SLOW);
+        int reduced = limiter.getLimit();
+
+        //when
+        sequential(limiter, 1000, FAST);
+
+        //then
+        assertThat(reduced).isEqualTo(2);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    public void 잘못된_설정() throws Exception {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(10, 20, 30, 100, 0.5, 10));  // 최소 > 처음
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(10, 1, 20, 100, 1.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(10, 1, 20, 100, 0.5, 0));
+    }
+}
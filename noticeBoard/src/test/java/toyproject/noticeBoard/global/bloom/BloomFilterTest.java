@@ -0,0 +1,51 @@
+package toyproject.noticeBoard.global.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BloomFilterTest {
+
+    @Test
+    public void 넣은_값은_항상_있다고_함() throws Exception {
+        //given
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+
+        //when
+        IntStream.range(0, 10_000).forEach(i -> filter.put("user" + i));
+
+        //then
+        IntStream.range(0, 10_000).forEach(i -> assertThat(filter.mightContain("user" + i)).isTrue());
+    }
+
+    /**
+     * 예상한 개수만큼 넣었을 때 실제 오탐률이 설정한 오탐률(1%) 근처여야 함
+     * 10만 번 확인하면 표본 오차가 0.03%p 정도이므로 1.2% 를 넘으면 크기나 해시가 잘못된 것
+     */
+    @Test
+    public void 오탐률과_메모리() throws Exception {
+        //given
+        BloomFilter filter = new BloomFilter(100_000, 0.01);
+        IntStream.range(0, 100_000).forEach(i -> filter.put("user" + i));
+
+        //when
+        long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("nick" + i)).count();
+        double measured = falsePositives / 100_000.0;
+
+        //then
+        assertThat(filter.hashCount()).isEqualTo(7);  // -ln(0.01) / ln2
+        assertThat(measured).isLessThan(0.012);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.012);
+        assertThat(filter.memoryBytes()).isLessThan(200 * 1024);  // 약 117KB (1만 명당 12KB)
+    }
+
+    @Test
+    public void 오류_잘못된_크기() throws Exception {
+        //when, then
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
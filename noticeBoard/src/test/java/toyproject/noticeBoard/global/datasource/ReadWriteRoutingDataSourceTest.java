@@ -0,0 +1,181 @@
+package toyproject.noticeBoard.global.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary, replica 대신 메모리 H2 두 개를 쓴다. 복제는 안 되므로 같은 id 의 게시글을 제목만 다르게 양쪽에 넣고,
+ * 읽은 제목으로 어느 풀에서 읽었는지 확인한다. (2차 캐시를 거치지 않도록 네이티브 쿼리로 읽음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadWriteRoutingDataSourceTest.PRIMARY_URL,
+        "datasource.routing.enabled=true",
+        "datasource.routing.sticky-window-ms=300",
+        "datasource.replica.url=" + ReadWriteRoutingDataSourceTest.REPLICA_URL,
+        "datasource.replica.migrate=true",
+        "comment.compaction.enabled=false"
+})
+class ReadWriteRoutingDataSourceTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+    static final long POST_ID = -100L;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    TransactionTemplate readWrite;
+    TransactionTemplate readOnly;
+
+    @BeforeEach
+    public void init() throws SQLException {
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        insertPost(PRIMARY_URL, "primary");
+        insertPost(REPLICA_URL, "replica");
+    }
+
+    @AfterEach
+    public void after() throws SQLException {
+        SecurityContextHolder.clearContext();
+        execute(PRIMARY_URL, "delete from post where post_id = " + POST_ID);
+        execute(REPLICA_URL, "delete from post where post_id = " + POST_ID);
+    }
+
+    private void insertPost(String url, String title) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             PreparedStatement statement = connection.prepareStatement("insert into post (post_id, title, content) values (?, ?, '내용')")) {
+            statement.setLong(1, POST_ID);
+            statement.setString(2, title);
+            statement.executeUpdate();
+        }
+    }
+
+    private void execute(String url, String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private String readTitle(TransactionTemplate template) {
+        return template.execute(status -> (String) em.createNativeQuery("select title from post where post_id = :id")
+                .setParameter("id", POST_ID)
+                .getSingleResult());
+    }
+
+    private void write() {
+        readWrite.executeWithoutResult(status -> em.createNativeQuery("update post set content = '수정' where post_id = :id")
+                .setParameter("id", POST_ID)
+                .executeUpdate());
+    }
+
+    private void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private double routed(String target, String reason) {
+        return meterRegistry.get("datasource.routing").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    @Test
+    public void readOnly_트랜잭션은_replica_에서_읽음() throws Exception {
+        //given
+        double replicaBefore = routed("replica", "read");
+        double primaryBefore = routed("primary", "write");
+
+        //when
+        String readOnlyTitle = readTitle(readOnly);
+        String readWriteTitle = readTitle(readWrite);
+
+        //then
+        assertThat(readOnlyTitle).isEqualTo("replica");
+        assertThat(readWriteTitle).isEqualTo("primary");
+        assertThat(routed("replica", "read")).isGreaterThanOrEqualTo(replicaBefore + 1);
+        assertThat(routed("primary", "write")).isGreaterThanOrEqualTo(primaryBefore + 1);  // 스케줄러도 primary 를 씀
+    }
+
+    @Test
+    public void 쓰기_후_같은_회원은_잠깐_primary_에서_읽음() throws Exception {
+        //given
+        login("writer");
+        write();
+
+        //when
+        String stickyTitle = readTitle(readOnly);
+        login("other");
+        String otherTitle = readTitle(readOnly);
+
+        //then
+        assertThat(stickyTitle).isEqualTo("primary");
+        assertThat(otherTitle).isEqualTo("replica");
+    }
+
+    @Test
+    public void sticky_window_가_지나면_다시_replica_에서_읽음() throws Exception {
+        //given
+        login("writer");
+        write();
+
+        //when
+        Thread.sleep(400);
+
+        //then
+        assertThat(readTitle(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    public void 롤백된_쓰기는_sticky_아님() throws Exception {
+        //given
+        login("writer");
+
+        //when
+        readWrite.executeWithoutResult(status -> {
+            em.createNativeQuery("update post set content = '수정' where post_id = :id")
+                    .setParameter("id", POST_ID)
+                    .executeUpdate();
+            status.setRollbackOnly();
+        });
+
+        //then
+        assertThat(readTitle(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    public void 풀별_메트릭() throws Exception {
+        //given
+        readTitle(readOnly);
+
+        //when
+        //then
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "primary").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections").tag("pool", "replica").gauge()).isNotNull();
+    }
+}
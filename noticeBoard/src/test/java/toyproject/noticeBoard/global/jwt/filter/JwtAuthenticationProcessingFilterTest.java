@@ -290,4 +290,30 @@ public class JwtAuthenticationProcessingFilterTest {
                 .andReturn();
     }
 
-}
\ No newline at end of file
+    /**
+     * actuator 는 ADMIN 만 (SQL 모양, 메트릭, 실행 중 설정 변경)
+     */
+    @Test
+    public void actuator_는_ADMIN_만_접근() throws Exception {
+        //given
+        memberRepository.save(Member.builder()
+                .username("admin")
+                .password(delegatingPasswordEncoder.encode(PASSWORD))
+                .email("admin@gmail.com")
+                .nickname("Admin1")
+                .role(RoleType.ADMIN)
+                .build());
+        clear();
+        String userAccessToken = (String) getAccessAndRefreshToken().get(accessHeader);
+        String adminAccessToken = mockMvc.perform(post(LOGIN_RUL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(getUsernamePasswordMap("admin", PASSWORD))))
+                .andReturn().getResponse().getHeader(accessHeader);
+
+        //when, then
+        mockMvc.perform(get("/actuator/metrics").header(accessHeader, BEARER + userAccessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").header(accessHeader, BEARER + adminAccessToken))
+                .andExpect(status().isOk());
+    }
+}
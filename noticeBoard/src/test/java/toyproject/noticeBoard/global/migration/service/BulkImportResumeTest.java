@@ -0,0 +1,86 @@
+package toyproject.noticeBoard.global.migration.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import toyproject.noticeBoard.global.migration.ImportCheckpoint;
+import toyproject.noticeBoard.global.migration.ImportIdMapping;
+import toyproject.noticeBoard.global.migration.ImportRecordType;
+import toyproject.noticeBoard.global.migration.ImportResult;
+import toyproject.noticeBoard.global.migration.repository.ImportCheckpointRepository;
+import toyproject.noticeBoard.global.migration.repository.ImportIdMappingRepository;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 청크마다 커밋되는지 확인하므로 @Transactional 을 붙이지 않고, 따로 메모리 DB 를 쓴다.
+ * 3번째 줄이 깨진 파일은 첫 청크(1~2번째 줄)만 커밋하고 실패하고, 고친 파일로 다시 실행하면 체크포인트부터 이어서 가져와야 한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-import-resume;DB_CLOSE_DELAY=-1",
+        "bulk-import.chunk-size=2",
+        "comment.compaction.enabled=false"
+})
+class BulkImportResumeTest {
+
+    private static final String JOB = "resume-job";
+
+    private static final String MEMBER_1 = "{\"type\":\"MEMBER\",\"id\":1,\"username\":\"resume1\",\"password\":\"{noop}1234\",\"email\":\"resume1@gmail.com\",\"nickname\":\"resume1\"}";
+    private static final String MEMBER_2 = "{\"type\":\"MEMBER\",\"id\":2,\"username\":\"resume2\",\"password\":\"{noop}1234\",\"email\":\"resume2@gmail.com\",\"nickname\":\"resume2\"}";
+    private static final String POST = "{\"type\":\"POST\",\"id\":10,\"writerId\":1,\"title\":\"제목\",\"content\":\"내용\"}";
+    private static final String COMMENT = "{\"type\":\"COMMENT\",\"id\":100,\"postId\":10,\"writerId\":2,\"content\":\"댓글\"}";
+    private static final String RE_COMMENT = "{\"type\":\"COMMENT\",\"id\":101,\"postId\":10,\"writerId\":1,\"parentId\":100,\"content\":\"대댓글\"}";
+
+    @Autowired
+    BulkImportService bulkImportService;
+
+    @Autowired
+    ImportCheckpointRepository importCheckpointRepository;
+
+    @Autowired
+    ImportIdMappingRepository importIdMappingRepository;
+
+    @Autowired
+    EntityManager em;
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long count(String query) {
+        return em.createQuery(query, Long.class).getSingleResult();
+    }
+
+    @Test
+    public void 중간에_실패하면_커밋된_청크_다음부터_다시_가져오기() throws Exception {
+        //given
+        assertThrows(Exception.class, () -> bulkImportService.importFrom(JOB, ndjson(MEMBER_1, MEMBER_2, "{\"type\":\"POST\",\"id\":10,", COMMENT, RE_COMMENT)));
+        assertThat(importCheckpointRepository.findById(JOB).map(ImportCheckpoint::getLineNumber)).contains(2L);
+        assertThat(importIdMappingRepository.findAllByJobName(JOB)).hasSize(2);
+
+        //when
+        ImportResult result = bulkImportService.importFrom(JOB, ndjson(MEMBER_1, MEMBER_2, POST, COMMENT, RE_COMMENT));
+
+        //then
+        assertThat(result.skippedRows()).isEqualTo(2);
+        assertThat(result.importedRows()).isEqualTo(3);
+        assertThat(importCheckpointRepository.findById(JOB).map(ImportCheckpoint::getLineNumber)).contains(5L);
+
+        assertThat(count("select count(m) from Member m where m.username in ('resume1', 'resume2')")).isEqualTo(2);
+        assertThat(count("select count(p) from Post p where p.title = '제목'")).isEqualTo(1);
+        assertThat(count("select count(c) from Comment c")).isEqualTo(2);
+        assertThat(count("select count(c) from Comment c where c.parent is not null and c.writer.username = 'resume1'")).isEqualTo(1);
+
+        List<ImportIdMapping> mappings = importIdMappingRepository.findAllByJobName(JOB);
+        assertThat(mappings).hasSize(5);
+        assertThat(mappings).extracting(ImportIdMapping::getRecordType, ImportIdMapping::getLegacyId).doesNotHaveDuplicates();
+        assertThat(mappings).filteredOn(mapping -> mapping.getRecordType() == ImportRecordType.MEMBER).hasSize(2);
+    }
+}
@@ -0,0 +1,75 @@
+package toyproject.noticeBoard.global.migration.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.noticeBoard.domain.comment.Comment;
+import toyproject.noticeBoard.global.migration.ImportResult;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "bulk-import.chunk-size=2")
+@Transactional
+class BulkImportServiceTest {
+
+    @Autowired
+    BulkImportService bulkImportService;
+
+    @Autowired
+    EntityManager em;
+
+    private static final String NDJSON = String.join("\n",
+            "{\"type\":\"MEMBER\",\"id\":1,\"username\":\"legacy1\",\"password\":\"{noop}1234\",\"email\":\"legacy1@gmail.com\",\"nickname\":\"old1\",\"role\":\"USER\"}",
+            "{\"type\":\"MEMBER\",\"id\":2,\"username\":\"legacy2\",\"password\":\"{noop}1234\",\"email\":\"legacy2@gmail.com\",\"nickname\":\"old2\"}",
+            "{\"type\":\"POST\",\"id\":10,\"writerId\":1,\"title\":\"제목\",\"content\":\"내용\"}",
+            "{\"type\":\"COMMENT\",\"id\":100,\"postId\":10,\"writerId\":2,\"content\":\"댓글\"}",
+            "{\"type\":\"COMMENT\",\"id\":101,\"postId\":10,\"writerId\":1,\"parentId\":100,\"content\":\"대댓글\",\"removed\":true}"
+    );
+
+    private InputStream ndjson() {
+        return new ByteArrayInputStream(NDJSON.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long count(String entityName) {
+        return em.createQuery("select count(e) from " + entityName + " e", Long.class).getSingleResult();
+    }
+
+    @Test
+    public void NDJSON_가져오기() throws Exception {
+        //when
+        ImportResult result = bulkImportService.importFrom("test-job", ndjson());
+
+        //then
+        assertThat(result.importedRows()).isEqualTo(5);
+        assertThat(count("Member")).isEqualTo(2);
+        assertThat(count("Post")).isEqualTo(1);
+        assertThat(count("Comment")).isEqualTo(2);
+
+        Comment reComment = em.createQuery("select c from Comment c where c.parent is not null", Comment.class).getSingleResult();
+        assertThat(reComment.isRemoved()).isTrue();
+        assertThat(reComment.getParent().getContent()).isEqualTo("댓글");
+        assertThat(reComment.getWriter().getUsername()).isEqualTo("legacy1");
+        assertThat(reComment.getPost().getWriter().getUsername()).isEqualTo("legacy1");
+    }
+
+    @Test
+    public void 같은_작업을_다시_실행하면_체크포인트_이후부터_가져오기() throws Exception {
+        //given
+        bulkImportService.importFrom("test-job", ndjson());
+
+        //when
+        ImportResult result = bulkImportService.importFrom("test-job", ndjson());
+
+        //then
+        assertThat(result.importedRows()).isEqualTo(0);
+        assertThat(result.skippedRows()).isEqualTo(5);
+        assertThat(count("Member")).isEqualTo(2);
+        assertThat(count("Comment")).isEqualTo(2);
+    }
+}
@@ -0,0 +1,303 @@
+package toyproject.noticeBoard.global.outbox;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.noticeBoard.domain.comment.event.CommentAdded;
+import toyproject.noticeBoard.domain.comment.event.CommentRemoved;
+import toyproject.noticeBoard.domain.post.event.PostCreated;
+import toyproject.noticeBoard.domain.post.event.PostRemoved;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 아웃박스는 커밋된 뒤 다른 트랜잭션에서 읽으므로 @Transactional 을 붙이지 않는다.
+ * 다른 테스트 컨텍스트의 OutboxDispatcher 가 이벤트를 가져가지 않도록 따로 메모리 DB 를 쓰고, 스케줄러 대신 dispatch 를 직접 부른다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;DB_CLOSE_DELAY=-1",
+        "outbox.dispatch-interval-ms=3600000",
+        "outbox.batch-size=5",
+        "outbox.retry-base-ms=0",  // 실패한 이벤트를 바로 다시 전달
+        "outbox.max-attempts=3",
+        "comment.compaction.enabled=false"
+})
+class OutboxDispatcherTest {
+
+    @Autowired
+    OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    RecordingHandler recordingHandler;
+
+    @Autowired
+    CountingHandler countingHandler;
+
+    @AfterEach
+    public void after() {
+        recordingHandler.clear();
+        countingHandler.clear();
+        outboxEventRepository.deleteAll();
+    }
+
+    private void append(DomainEvent... events) {
+        transactionTemplate.executeWithoutResult(status -> List.of(events).forEach(domainEventOutbox::append));
+    }
+
+    /**
+     * 같은 게시글의 이벤트는 저장한 순서대로 전달되고, 전달된 이벤트는 아웃박스에서 지워져야 함
+     */
+    @Test
+    public void 같은_aggregate_는_순서대로_전달하고_지움() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        append(new PostCreated(1L, 10L, now),
+                new CommentAdded(100L, 1L, null, 20L, now),
+                new PostCreated(2L, 10L, now));
+        append(new CommentRemoved(100L, 1L, 20L, now),
+                new PostRemoved(1L, 10L, Map.of(20L, 0L), now));
+
+        //when
+        int delivered = outboxDispatcher.dispatch();
+
+        //then
+        assertThat(delivered).isEqualTo(5);
+        assertThat(recordingHandler.eventsOf(1L)).extracting(event -> event.getClass().getSimpleName())
+                .containsExactly("PostCreated", "CommentAdded", "CommentRemoved", "PostRemoved");
+        assertThat(recordingHandler.eventsOf(2L)).hasSize(1);
+        assertThat(outboxEventRepository.count()).isEqualTo(0);
+    }
+
+    /**
+     * 롤백된 쓰기의 이벤트는 저장되지 않아야 함
+     */
+    @Test
+    public void 롤백된_이벤트는_전달되지_않음() throws Exception {
+        //when
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            domainEventOutbox.append(new PostCreated(1L, 10L, LocalDateTime.now()));
+            throw new IllegalStateException("롤백");
+        }));
+
+        //then
+        assertThat(outboxDispatcher.dispatch()).isEqualTo(0);
+        assertThat(recordingHandler.eventsOf(1L)).isEmpty();
+    }
+
+    /**
+     * 실패한 이벤트는 다시 전달하고, 그 전까지 같은 aggregate 의 뒤 이벤트는 전달하지 않음
+     * 다른 aggregate 는 기다리지 않음
+     */
+    @Test
+    public void 실패한_이벤트는_순서를_지켜서_다시_전달() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        recordingHandler.failOnce(100L);
+        append(new CommentAdded(100L, 1L, null, 20L, now),
+                new CommentAdded(101L, 1L, null, 20L, now),
+                new PostCreated(2L, 10L, now));
+
+        //when
+        int firstDelivered = outboxDispatcher.dispatch();
+        List<DomainEvent> firstPost1Events = List.copyOf(recordingHandler.eventsOf(1L));
+        int secondDelivered = outboxDispatcher.dispatch();
+
+        //then
+        assertThat(firstDelivered).isEqualTo(1);  // 게시글 2 만
+        assertThat(firstPost1Events).isEmpty();
+        assertThat(secondDelivered).isEqualTo(2);
+        assertThat(recordingHandler.eventsOf(1L)).extracting(event -> ((CommentAdded) event).commentId())
+                .containsExactly(100L, 101L);
+        assertThat(outboxEventRepository.count()).isEqualTo(0);
+    }
+
+    /**
+     * 실패한 이벤트 뒤에 같은 aggregate 의 이벤트가 batch-size 보다 많이 쌓여 있어도
+     * 막힌 aggregate 는 건너뛰고 뒤의 다른 aggregate 를 전달해야 함
+     */
+    @Test
+    public void 막힌_aggregate_가_배치를_채워도_다른_aggregate_는_전달() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        recordingHandler.failOnce(100L);
+        for (long commentId = 100; commentId < 112; commentId++) {
+            append(new CommentAdded(commentId, 1L, null, 20L, now));
+        }
+        append(new PostCreated(2L, 10L, now));
+
+        //when
+        int firstDelivered = outboxDispatcher.dispatch();
+        List<DomainEvent> firstPost1Events = List.copyOf(recordingHandler.eventsOf(1L));
+        int secondDelivered = outboxDispatcher.dispatch();
+
+        //then
+        assertThat(firstDelivered).isEqualTo(1);  // 게시글 2 만
+        assertThat(firstPost1Events).isEmpty();
+        assertThat(secondDelivered).isEqualTo(12);
+        assertThat(recordingHandler.eventsOf(1L)).extracting(event -> ((CommentAdded) event).commentId())
+                .containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L, 110L, 111L);
+        assertThat(outboxEventRepository.count()).isEqualTo(0);
+    }
+
+    /**
+     * 재시도 시간이 되지 않은 이벤트는 배치로 읽지 않고, 그 aggregate 의 뒤 이벤트도 기다림
+     */
+    @Test
+    public void 재시도를_기다리는_aggregate_는_건너뜀() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        append(new CommentAdded(100L, 1L, null, 20L, now),
+                new CommentAdded(101L, 1L, null, 20L, now),
+                new PostCreated(2L, 10L, now));
+        Long firstId = outboxEventRepository.findAll().stream().mapToLong(OutboxEvent::getId).min().orElseThrow();
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markFailed(firstId, 1, now.plusHours(1), "리스너 실패", null, OutboxStatus.PENDING));
+
+        //when
+        int delivered = outboxDispatcher.dispatch();
+
+        //then
+        assertThat(delivered).isEqualTo(1);
+        assertThat(recordingHandler.eventsOf(1L)).isEmpty();
+        assertThat(recordingHandler.eventsOf(2L)).hasSize(1);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isEqualTo(2);
+    }
+
+    /**
+     * 리스너 하나가 실패하면 그 리스너에게만 다시 전달하고, 이미 받은 리스너는 두 번 받지 않아야 함
+     */
+    @Test
+    public void 실패한_리스너에게만_다시_전달() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        recordingHandler.failOnce(100L);
+        append(new CommentAdded(100L, 1L, null, 20L, now));
+
+        //when
+        int firstDelivered = outboxDispatcher.dispatch();
+        int countedAfterFailure = countingHandler.count();
+        int secondDelivered = outboxDispatcher.dispatch();
+
+        //then
+        assertThat(firstDelivered).isEqualTo(0);
+        assertThat(countedAfterFailure).isEqualTo(1);  // 다른 리스너가 실패해도 받음
+        assertThat(secondDelivered).isEqualTo(1);
+        assertThat(countingHandler.count()).isEqualTo(1);
+        assertThat(recordingHandler.eventsOf(1L)).hasSize(1);
+        assertThat(outboxEventRepository.count()).isEqualTo(0);
+    }
+
+    /**
+     * max-attempts 번 실패하면 DEAD 로 남기고 같은 aggregate 의 뒤 이벤트를 전달함
+     */
+    @Test
+    public void 계속_실패하면_DEAD() throws Exception {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        recordingHandler.failAlways(100L);
+        append(new CommentAdded(100L, 1L, null, 20L, now),
+                new CommentAdded(101L, 1L, null, 20L, now));
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            outboxDispatcher.dispatch();
+        }
+        outboxDispatcher.dispatch();
+
+        //then
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.DEAD)).isEqualTo(1);
+        assertThat(outboxEventRepository.countByStatus(OutboxStatus.PENDING)).isEqualTo(0);
+        assertThat(recordingHandler.eventsOf(1L)).extracting(event -> ((CommentAdded) event).commentId())
+                .containsExactly(101L);
+    }
+
+    @TestConfiguration
+    static class RecordingHandlerConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        CountingHandler countingHandler() {
+            return new CountingHandler();
+        }
+    }
+
+    // 받은 이벤트 수만 센다 (실패하지 않음)
+    static class CountingHandler implements DomainEventHandler {
+
+        private final AtomicInteger received = new AtomicInteger();
+
+        @Override
+        public void handle(DomainEvent event) {
+            received.incrementAndGet();
+        }
+
+        int count() {
+            return received.get();
+        }
+
+        void clear() {
+            received.set(0);
+        }
+    }
+
+    // 받은 이벤트를 aggregate 별로 기록하고, 정해진 댓글 이벤트에서 실패한다
+    static class RecordingHandler implements DomainEventHandler {
+
+        private final Map<Long, List<DomainEvent>> eventsByAggregate = new ConcurrentHashMap<>();
+        private final Set<Long> failOnce = ConcurrentHashMap.newKeySet();
+        private final Set<Long> failAlways = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void handle(DomainEvent event) {
+            if (event instanceof CommentAdded added
+                    && (failOnce.remove(added.commentId()) || failAlways.contains(added.commentId()))) {
+                throw new IllegalStateException("리스너 실패: " + added.commentId());
+            }
+            eventsByAggregate.computeIfAbsent(event.aggregateId(), id -> new CopyOnWriteArrayList<>()).add(event);
+        }
+
+        List<DomainEvent> eventsOf(Long aggregateId) {
+            return eventsByAggregate.getOrDefault(aggregateId, List.of());
+        }
+
+        void failOnce(Long commentId) {
+            failOnce.add(commentId);
+        }
+
+        void failAlways(Long commentId) {
+            failAlways.add(commentId);
+        }
+
+        void clear() {
+            eventsByAggregate.clear();
+            failOnce.clear();
+            failAlways.clear();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package toyproject.noticeBoard.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.persistence.EntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "sql.request-budget.max-queries=20",
+        "sql.request-budget.max-repeats=5"
+})
+@Transactional
+class QueryBudgetFilterTest {
+
+    @Autowired
+    QueryBudgetFilter queryBudgetFilter;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    EntityManager em;
+
+    private double exceeded(String endpoint, String reason) {
+        Counter counter = meterRegistry.find("sql.request.budget.exceeded").tag("endpoint", endpoint).tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    // 컨트롤러 대신 filterChain 안에서 쿼리를 queries 번 실행 (repeated 면 같은 모양)
+    private void request(String pattern, int queries, boolean repeated) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+
+        queryBudgetFilter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            for (int i = 0; i < queries; i++) {
+                String sql = repeated
+                        ? "select count(*) from post where post_id = " + i
+                        : "select count(*) from post where post_id = " + i + " or post_id = 0".repeat(i);  // 조건 수가 달라서 모양이 모두 다름
+                em.createNativeQuery(sql).getSingleResult();
+            }
+        });
+    }
+
+    /**
+     * 값만 다른 같은 쿼리가 허용 횟수(5번)를 넘으면 N+1 로 기록
+     */
+    @Test
+    public void 같은_쿼리_반복은_N플러스1() throws Exception {
+        //given
+        double before = exceeded("GET /test/repeated", "repeated");
+
+        //when
+        request("/test/repeated", 6, true);
+
+        //then
+        assertThat(exceeded("GET /test/repeated", "repeated")).isEqualTo(before + 1);
+    }
+
+    @Test
+    public void 예산_안의_요청은_기록하지_않음() throws Exception {
+        //when
+        request("/test/ok", 5, true);
+
+        //then
+        assertThat(exceeded("GET /test/ok", "repeated")).isEqualTo(0);
+        assertThat(exceeded("GET /test/ok", "total")).isEqualTo(0);
+    }
+
+    /**
+     * 모양이 모두 달라도 전체 쿼리 수(20번)를 넘으면 기록
+     */
+    @Test
+    public void 전체_쿼리수_초과() throws Exception {
+        //given
+        double before = exceeded("GET /test/total", "total");
+
+        //when
+        request("/test/total", 21, false);
+
+        //then
+        assertThat(exceeded("GET /test/total", "total")).isEqualTo(before + 1);
+        assertThat(exceeded("GET /test/total", "repeated")).isEqualTo(0);
+    }
+}
@@ -0,0 +1,65 @@
+package toyproject.noticeBoard.global.sql;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SqlMonitorTest {
+
+    @Autowired
+    SqlMonitor sqlMonitor;
+
+    @Autowired
+    EntityManager em;
+
+    /**
+     * 값이 다른 같은 쿼리는 모양 하나로 합쳐서 기록
+     */
+    @Test
+    public void SQL_모양별_실행시간_기록() throws Exception {
+        //given
+        sqlMonitor.reset();
+
+        //when
+        for (long id = 1; id <= 10; id++) {
+            em.createNativeQuery("select count(*) from post where post_id > " + id).getSingleResult();
+        }
+
+        //then
+        List<SqlShapeSummary> slowest = sqlMonitor.findSlowest(100, "total");
+        SqlShapeSummary shape = slowest.stream()
+                .filter(summary -> summary.sql().equals("select count(*) from post where post_id > ?"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(shape.count()).isEqualTo(10);
+        assertThat(shape.maxMs()).isGreaterThanOrEqualTo(shape.p50Ms());
+    }
+
+    @Test
+    public void 백분위수() throws Exception {
+        //given
+        SqlShapeHistogram histogram = new SqlShapeHistogram("select ?");
+
+        //when
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(200));  // 250us 구간
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(30));  // 50ms 구간
+
+        //then
+        SqlShapeSummary summary = histogram.summarize();
+        assertThat(summary.count()).isEqualTo(100);
+        assertThat(summary.p50Ms()).isEqualTo(0.25);
+        assertThat(summary.p99Ms()).isEqualTo(0.25);
+        assertThat(summary.maxMs()).isEqualTo(30.0);
+    }
+}
@@ -0,0 +1,33 @@
+package toyproject.noticeBoard.global.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlShapeNormalizerTest {
+
+    @Test
+    public void 값만_다른_문장은_같은_모양() throws Exception {
+        //when
+        String first = SqlShapeNormalizer.normalize("select * from post where post_id = 1 and title = 'a'");
+        String second = SqlShapeNormalizer.normalize("select *   from post\n where post_id = 20 and title = 'it''s'");
+
+        //then
+        assertThat(first).isEqualTo("select * from post where post_id = ? and title = ?");
+        assertThat(second).isEqualTo(first);
+    }
+
+    /**
+     * 청크 크기가 달라도 IN 목록은 같은 모양, 별칭(comment0_)의 숫자와 주석은 지움
+     */
+    @Test
+    public void IN_목록과_별칭과_주석() throws Exception {
+        //when
+        String three = SqlShapeNormalizer.normalize("/* delete */ delete from comment comment0_ where comment0_.comment_id in (?, ?, ?)");
+        String one = SqlShapeNormalizer.normalize("delete from comment comment0_ where comment0_.comment_id in (?)");
+
+        //then
+        assertThat(three).isEqualTo("delete from comment comment0_ where comment0_.comment_id in (?)");
+        assertThat(one).isEqualTo(three);
+    }
+}
@@ -0,0 +1,69 @@
+package toyproject.noticeBoard.support;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SqlCapture 블록 안에서 준비된 SQL (모양별 횟수)
+ * expect 는 정확한 횟수, expectAtMost 는 최대 횟수를 확인하고, 틀리면 실행한 SQL 목록을 함께 보여준다.
+ */
+public class CapturedSql {
+
+    private final Map<String, Integer> countsByShape;
+    private final Map<SqlType, Integer> countsByType = new EnumMap<>(SqlType.class);
+    private final int total;
+
+    CapturedSql(Map<String, Integer> countsByShape) {
+        this.countsByShape = new LinkedHashMap<>(countsByShape);
+        countsByShape.forEach((sql, count) -> countsByType.merge(SqlType.of(sql), count, Integer::sum));
+        this.total = countsByShape.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    public int total() {
+        return total;
+    }
+
+    public int count(SqlType type) {
+        return countsByType.getOrDefault(type, 0);
+    }
+
+    public CapturedSql expectTotal(int expected) {
+        assertThat(total).as("전체 쿼리 수%n%s", this).isEqualTo(expected);
+        return this;
+    }
+
+    public CapturedSql expectTotalAtMost(int max) {
+        assertThat(total).as("전체 쿼리 수%n%s", this).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    public CapturedSql expect(SqlType type, int expected) {
+        assertThat(count(type)).as("%s 쿼리 수%n%s", type, this).isEqualTo(expected);
+        return this;
+    }
+
+    public CapturedSql expectAtMost(SqlType type, int max) {
+        assertThat(count(type)).as("%s 쿼리 수%n%s", type, this).isLessThanOrEqualTo(max);
+        return this;
+    }
+
+    // 같은 모양이 max 번을 넘게 반복되지 않음 (N+1 X)
+    public CapturedSql expectNoRepeatsOver(int max) {
+        countsByShape.forEach((sql, count) -> assertThat(count).as("같은 쿼리 반복 수%n%s", this).isLessThanOrEqualTo(max));
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        if (countsByShape.isEmpty()) {
+            return "실행한 SQL 없음";
+        }
+        return countsByShape.entrySet().stream()
+                .map(entry -> entry.getValue() + "번: " + entry.getKey())
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+}
@@ -0,0 +1,53 @@
+package toyproject.noticeBoard.support;
+
+import toyproject.noticeBoard.global.sql.RequestQueryCounter;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 블록 안에서 Hibernate 가 준비한 SQL 을 모아서 쿼리 수를 확인한다. (테스트용)
+ * QueryCountingStatementInspector 가 요청별로 세는 카운터를 그대로 쓰므로 테스트 스레드에서 실행한 SQL 만 센다.
+ * (비동기 작업, 스케줄러의 SQL 은 세지 않음)
+ *
+ * 쓰기 지연된 INSERT, UPDATE 는 flush 될 때 준비되므로 블록 안에서 em.flush() 까지 해야 함께 센다.
+ * 배치로 묶인 INSERT 는 한 번으로 센다. (Statistics.getPrepareStatementCount 와 같은 기준)
+ *
+ * <pre>
+ * SqlCapture.run(() -> commentService.remove(commentId))
+ *         .expectTotal(2)
+ *         .expect(SqlType.UPDATE, 1);
+ * </pre>
+ */
+public final class SqlCapture {
+
+    private SqlCapture() {
+    }
+
+    public static CapturedSql run(Block block) throws Exception {
+        return call(() -> {
+            block.run();
+            return null;
+        }).sql();
+    }
+
+    // 블록의 결과가 필요할 때
+    public static <T> Captured<T> call(Callable<T> callable) throws Exception {
+        RequestQueryCounter.start();
+        T value;
+        try {
+            value = callable.call();
+        } catch (Exception e) {
+            RequestQueryCounter.finish();
+            throw e;
+        }
+        return new Captured<>(value, new CapturedSql(RequestQueryCounter.finish().countsByShape()));
+    }
+
+    @FunctionalInterface
+    public interface Block {
+        void run() throws Exception;
+    }
+
+    public record Captured<T>(T value, CapturedSql sql) {
+    }
+}
@@ -0,0 +1,22 @@
+package toyproject.noticeBoard.support;
+
+import java.util.Locale;
+
+/**
+ * SqlCapture 로 모은 SQL 의 종류 (첫 키워드로 나눔)
+ * 시퀀스 조회(call next value for ...) 처럼 나머지는 OTHER
+ */
+public enum SqlType {
+    SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+    static SqlType of(String sql) {
+        String keyword = sql.stripLeading().split("\\s", 2)[0].toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "with" -> SELECT;
+            case "insert" -> INSERT;
+            case "update" -> UPDATE;
+            case "delete" -> DELETE;
+            default -> OTHER;
+        };
+    }
+}